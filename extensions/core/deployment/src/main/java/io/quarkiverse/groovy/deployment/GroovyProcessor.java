@@ -16,8 +16,18 @@
  */
 package io.quarkiverse.groovy.deployment;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
@@ -25,29 +35,60 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
+import jakarta.inject.Singleton;
+
+import org.codehaus.groovy.control.CompilationFailedException;
+import org.codehaus.groovy.tools.GroovyClass;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.IndexView;
+import org.jboss.logging.Logger;
 
 import groovy.lang.Closure;
 import io.quarkiverse.groovy.runtime.GroovyRecorder;
+import io.quarkiverse.groovy.runtime.dev.GroovyJsonRpcService;
+import io.quarkiverse.groovy.runtime.script.GroovyScriptEvaluator;
+import io.quarkiverse.groovy.runtime.script.GroovyScriptRegistry;
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
 import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
+import io.quarkus.deployment.IsLocalDevelopment;
+import io.quarkus.deployment.IsNormal;
 import io.quarkus.deployment.IsTest;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.AdditionalIndexedClassesBuildItem;
+import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.deployment.builditem.HotDeploymentWatchedFileBuildItem;
 import io.quarkus.deployment.builditem.ServiceStartBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageProxyDefinitionBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
 import io.quarkus.deployment.pkg.steps.NativeBuild;
+import io.quarkus.devui.spi.JsonRPCProvidersBuildItem;
+import io.quarkus.devui.spi.page.CardPageBuildItem;
+import io.quarkus.devui.spi.page.Page;
+import io.quarkus.runtime.metrics.MetricsFactory;
 
 class GroovyProcessor {
 
+    private static final Logger LOG = Logger.getLogger(GroovyProcessor.class);
     private static final String FEATURE = "groovy";
     private static final String DGM_FORMAT_NAME = "org.codehaus.groovy.runtime.dgm$%d";
+    private static final String JSON_SLURPER_NAME = "groovy.json.JsonSlurper";
+    private static final String JSON_WRITER_NAME = "io.quarkiverse.groovy.runtime.json.GroovyJsonMessageBodyWriter";
+    private static final String JSON_READER_NAME = "io.quarkiverse.groovy.runtime.json.GroovyJsonMessageBodyReader";
+    private static final String GSTRING_WRITER_NAME = "io.quarkiverse.groovy.runtime.rest.GStringMessageBodyWriter";
+    private static final String SCRIPT_METRICS_NAME = "io.quarkiverse.groovy.runtime.script.MicrometerScriptMetrics";
 
     @BuildStep
     FeatureBuildItem feature() {
@@ -94,10 +135,178 @@ class GroovyProcessor {
         return proxies;
     }
 
+    /*
+     * Register the JAX-RS provider writing GStrings if a REST extension is available, the provider is then registered
+     * for reflection by the REST extension like any other provider of the index.
+     */
+    @BuildStep
+    void registerGStringProvider(Capabilities capabilities,
+            BuildProducer<AdditionalIndexedClassesBuildItem> additionalIndexedClasses) {
+        if (capabilities.isPresent(Capability.REST) || capabilities.isPresent(Capability.RESTEASY)) {
+            additionalIndexedClasses.produce(new AdditionalIndexedClassesBuildItem(GSTRING_WRITER_NAME));
+        }
+    }
+
+    /*
+     * Register the JAX-RS providers of Groovy JSON if a REST extension and Groovy JSON are available. The reader is
+     * only registered if there is no other JSON provider of the REST extensions to prevent any conflict.
+     */
+    @BuildStep
+    void registerJsonProviders(Capabilities capabilities,
+            BuildProducer<AdditionalIndexedClassesBuildItem> additionalIndexedClasses) {
+        if (!capabilities.isPresent(Capability.REST) && !capabilities.isPresent(Capability.RESTEASY)
+                || !QuarkusClassLoader.isClassPresentAtRuntime(JSON_SLURPER_NAME)) {
+            return;
+        }
+        additionalIndexedClasses.produce(new AdditionalIndexedClassesBuildItem(JSON_WRITER_NAME));
+        if (!capabilities.isPresent(Capability.REST_JACKSON)
+                && !capabilities.isPresent(Capability.RESTEASY_JSON_JACKSON)
+                && !capabilities.isPresent(Capability.REST_JSONB)
+                && !capabilities.isPresent(Capability.RESTEASY_JSON_JSONB)) {
+            additionalIndexedClasses.produce(new AdditionalIndexedClassesBuildItem(JSON_READER_NAME));
+        }
+    }
+
+    /*
+     * Restart the application when a script is modified to compile it again.
+     */
+    @BuildStep
+    void watchScripts(GroovyScriptsBuildTimeConfig config,
+            BuildProducer<HotDeploymentWatchedFileBuildItem> watchedFiles) {
+        for (String location : config.locations().orElse(List.of())) {
+            String prefix = location.endsWith("/") ? location : location + "/";
+            watchedFiles.produce(HotDeploymentWatchedFileBuildItem.builder()
+                    .setLocationPredicate(path -> path.startsWith(prefix))
+                    .build());
+        }
+    }
+
+    /*
+     * Compile the Groovy scripts found in the configured resource directories of the application.
+     */
+    @BuildStep
+    void compileScripts(GroovyScriptsBuildTimeConfig config, ApplicationArchivesBuildItem applicationArchives,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BuildProducer<GroovyScriptBuildItem> scripts,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
+        List<String> locations = config.locations().orElse(List.of());
+        if (locations.isEmpty()) {
+            return;
+        }
+        GroovyScriptCompiler compiler = new GroovyScriptCompiler(Thread.currentThread().getContextClassLoader());
+        // Shared by all the locations so that the scripts with the same path get distinct classes
+        Set<String> classNames = new HashSet<>();
+        for (Path root : applicationArchives.getRootArchive().getResolvedPaths()) {
+            for (String location : locations) {
+                Path directory = root.resolve(location);
+                if (!Files.isDirectory(directory)) {
+                    continue;
+                }
+                Map<String, Path> files = findScripts(directory);
+                if (files.isEmpty()) {
+                    continue;
+                }
+                List<GroovyClass> classes;
+                try {
+                    classes = compiler.compile(files, classNames, (path, className) -> {
+                        scripts.produce(new GroovyScriptBuildItem(path, className));
+                        LOG.debugf("The script %s has been compiled into %s", path, className);
+                    });
+                } catch (CompilationFailedException e) {
+                    throw new IllegalStateException(
+                            "The scripts of the directory %s could not be compiled".formatted(location), e);
+                }
+                String[] names = new String[classes.size()];
+                for (int i = 0; i < names.length; i++) {
+                    GroovyClass groovyClass = classes.get(i);
+                    generatedClasses.produce(
+                            new GeneratedClassBuildItem(true, groovyClass.getName(), groovyClass.getBytes()));
+                    names[i] = groovyClass.getName();
+                }
+                // The scripts are instantiated by reflection
+                reflectiveClass.produce(ReflectiveClassBuildItem.builder(names).constructors().methods().build());
+            }
+        }
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    SyntheticBeanBuildItem createScriptRegistry(GroovyRecorder recorder, List<GroovyScriptBuildItem> scripts) {
+        Map<String, String> classNames = new HashMap<>();
+        for (GroovyScriptBuildItem script : scripts) {
+            if (classNames.putIfAbsent(script.getPath(), script.getClassName()) != null) {
+                // Otherwise the script provided would depend on the build order
+                throw new IllegalStateException(
+                        "The script %s is found in several directories of quarkus.groovy.scripts.locations"
+                                .formatted(script.getPath()));
+            }
+        }
+        return SyntheticBeanBuildItem.configure(GroovyScriptRegistry.class)
+                .scope(Singleton.class)
+                .runtimeValue(recorder.createScriptRegistry(classNames))
+                .done();
+    }
+
+    /*
+     * Provide the evaluator of scripts, with its meters if Micrometer is available.
+     */
+    @BuildStep
+    void scriptEvaluator(Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+        additionalBeans.produce(AdditionalBeanBuildItem.builder().addBeanClass(GroovyScriptEvaluator.class).build());
+        if (metricsCapability.map(capability -> capability.metricsSupported(MetricsFactory.MICROMETER)).orElse(false)) {
+            additionalBeans.produce(AdditionalBeanBuildItem.builder().addBeanClasses(SCRIPT_METRICS_NAME)
+                    .setUnremovable().build());
+        }
+    }
+
+    /*
+     * Purge the Groovy runtime from the classes of the application when it is restarted.
+     */
+    @BuildStep(onlyIfNot = IsNormal.class)
+    @Record(ExecutionTime.STATIC_INIT)
+    void cleanUpMetaClasses(GroovyRecorder recorder, ShutdownContextBuildItem shutdownContext) {
+        recorder.cleanUpMetaClassesOnShutdown(shutdownContext);
+    }
+
+    @BuildStep(onlyIf = IsLocalDevelopment.class)
+    CardPageBuildItem createDevUICard() {
+        CardPageBuildItem card = new CardPageBuildItem();
+        card.addPage(Page.webComponentPageBuilder()
+                .title("Registered classes")
+                .icon("font-awesome-solid:layer-group")
+                .componentLink("qwc-groovy-classes.js")
+                .dynamicLabelJsonRPCMethodName("getRegisteredClassCount"));
+        return card;
+    }
+
+    @BuildStep(onlyIf = IsLocalDevelopment.class)
+    JsonRPCProvidersBuildItem createJsonRPCService() {
+        return new JsonRPCProvidersBuildItem(GroovyJsonRpcService.class);
+    }
+
     @BuildStep(onlyIf = IsTest.class)
     @Record(ExecutionTime.RUNTIME_INIT)
     ServiceStartBuildItem initExtensionModules(GroovyRecorder recorder) {
         recorder.initExtensionModules();
         return new ServiceStartBuildItem("Groovy Extension Module Loader");
     }
+
+    /**
+     * @return the files of the Groovy scripts of the given directory by path relative to the directory.
+     */
+    private static Map<String, Path> findScripts(Path directory) {
+        Map<String, Path> scripts = new LinkedHashMap<>();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.filter(Files::isRegularFile)
+                    .filter(file -> file.getFileName().toString().endsWith(GroovyScriptRegistry.SUFFIX))
+                    .sorted()
+                    .forEach(file -> scripts.put(
+                            directory.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/"),
+                            file));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return scripts;
+    }
 }
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.deployment;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * A Groovy script compiled at build time.
+ */
+public final class GroovyScriptBuildItem extends MultiBuildItem {
+
+    private final String path;
+    private final String className;
+
+    public GroovyScriptBuildItem(String path, String className) {
+        this.path = path;
+        this.className = className;
+    }
+
+    /**
+     * @return the path of the script relative to its resource directory.
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * @return the name of the class of the compiled script.
+     */
+    public String getClassName() {
+        return className;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.deployment;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.codehaus.groovy.ast.ClassNode;
+import org.codehaus.groovy.control.CompilationUnit;
+import org.codehaus.groovy.control.CompilerConfiguration;
+import org.codehaus.groovy.control.SourceUnit;
+import org.codehaus.groovy.tools.GroovyClass;
+
+import groovy.lang.GroovyClassLoader;
+import io.quarkiverse.groovy.runtime.script.GroovyScriptRegistry;
+
+/**
+ * {@code GroovyScriptCompiler} compiles at once the Groovy scripts of a resource directory.
+ */
+final class GroovyScriptCompiler {
+
+    private static final String CLASS_NAME_PREFIX = "GroovyScript_";
+
+    private final CompilerConfiguration configuration;
+    private final ClassLoader parentLoader;
+
+    GroovyScriptCompiler(ClassLoader parentLoader) {
+        this.configuration = new CompilerConfiguration();
+        this.configuration.setSourceEncoding("UTF-8");
+        this.parentLoader = parentLoader;
+    }
+
+    /**
+     * Compiles the given scripts.
+     *
+     * @param scripts the files of the scripts by path relative to their resource directory.
+     * @param classNames the names of the classes of the scripts already compiled, to which the names of the classes of
+     *        the given scripts are added.
+     * @param scriptClasses the consumer of the path and the name of the class of each compiled script.
+     * @return all the classes generated by the compilation.
+     */
+    List<GroovyClass> compile(Map<String, Path> scripts, Set<String> classNames,
+            BiConsumer<String, String> scriptClasses) {
+        GroovyClassLoader classLoader = new GroovyClassLoader(parentLoader, configuration);
+        CompilationUnit unit = new CompilationUnit(configuration, null, classLoader);
+        Map<SourceUnit, String> sources = new LinkedHashMap<>();
+        for (Map.Entry<String, Path> entry : scripts.entrySet()) {
+            String source;
+            try {
+                source = Files.readString(entry.getValue());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            // The name of the source unit gives its name to the class of the script
+            String name = toClassName(entry.getKey(), classNames) + GroovyScriptRegistry.SUFFIX;
+            sources.put(unit.addSource(new SourceUnit(name, source, configuration, classLoader,
+                    unit.getErrorCollector())), entry.getKey());
+        }
+        unit.compile();
+        for (Map.Entry<SourceUnit, String> entry : sources.entrySet()) {
+            String path = entry.getValue();
+            String className = entry.getKey().getAST().getClasses().stream()
+                    .filter(ClassNode::isScript)
+                    .map(ClassNode::getName)
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("The file %s is not a script".formatted(path)));
+            scriptClasses.accept(path, className);
+        }
+        return unit.getClasses();
+    }
+
+    /**
+     * @return the name of the class of the script whose path relative to its resource directory is the given path,
+     *         unique among the given names of classes.
+     */
+    private static String toClassName(String path, Set<String> classNames) {
+        String className = CLASS_NAME_PREFIX
+                + path.substring(0, path.length() - GroovyScriptRegistry.SUFFIX.length()).replaceAll("\\W", "_");
+        String candidate = className;
+        for (int i = 1; !classNames.add(candidate); i++) {
+            candidate = className + "_" + i;
+        }
+        return candidate;
+    }
+}
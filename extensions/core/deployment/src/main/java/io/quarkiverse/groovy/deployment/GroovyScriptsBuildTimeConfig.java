@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.deployment;
+
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+
+/**
+ * Build time configuration of the Groovy scripts compiled at build time.
+ */
+@ConfigMapping(prefix = "quarkus.groovy.scripts")
+@ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+public interface GroovyScriptsBuildTimeConfig {
+
+    /**
+     * The resource directories in which the Groovy scripts to compile at build time are looked for, the compiled scripts
+     * are then provided by the {@code GroovyScriptRegistry} bean. No script is compiled by default.
+     */
+    Optional<List<String>> locations();
+}
@@ -43,6 +43,15 @@ public final class GroovyUtil {
      */
     public static final String METHOD_GET_META_CLASS_DESCRIPTOR = String.format("()L%s;",
             MetaClass.class.getName().replace('.', '/'));
+    /**
+     * The name of the field holding the meta class.
+     */
+    public static final String FIELD_META_CLASS_NAME = "metaClass";
+    /**
+     * The descriptor of the field {@code metaClass} in asm terminology.
+     */
+    public static final String FIELD_META_CLASS_DESCRIPTOR = String.format("L%s;",
+            MetaClass.class.getName().replace('.', '/'));
     private static final List<String> GROOVY_PACKAGE_NAMES = List.of("org.codehaus.groovy.", "org.apache.groovy.", "groovy");
 
     private GroovyUtil() {
@@ -71,6 +80,16 @@ public final class GroovyUtil {
         return METHOD_GET_META_CLASS_NAME.equals(name) && METHOD_GET_META_CLASS_DESCRIPTOR.equals(descriptor);
     }
 
+    /**
+     * @param name the name of the field to test.
+     * @param descriptor the descriptor of the field to test in asm terminology.
+     * @return {@code true} if the given field name and description match with the field holding the meta class of a
+     *         Groovy object, {@code false} otherwise.
+     */
+    public static boolean isMetaClassField(String name, String descriptor) {
+        return FIELD_META_CLASS_NAME.equals(name) && FIELD_META_CLASS_DESCRIPTOR.equals(descriptor);
+    }
+
     /**
      * @param name the full qualified name of the class to test.
      * @return {@code true} if the given class is part of the groovy library, {@code false} otherwise.
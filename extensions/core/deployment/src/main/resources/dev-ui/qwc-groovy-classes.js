@@ -0,0 +1,57 @@
+import { LitElement, html, css } from 'lit';
+import { JsonRpc } from 'jsonrpc';
+import '@vaadin/button';
+import '@vaadin/icon';
+
+/**
+ * Shows the amount of classes known by the Groovy runtime and the amount of classes purged on reload.
+ */
+export class QwcGroovyClasses extends LitElement {
+
+    jsonRpc = new JsonRpc(this);
+
+    static styles = css`
+        .statistics {
+            display: flex;
+            flex-direction: column;
+            gap: 10px;
+            padding: 10px;
+        }
+        .value {
+            font-weight: bold;
+        }
+    `;
+
+    static properties = {
+        _statistics: { state: true }
+    };
+
+    connectedCallback() {
+        super.connectedCallback();
+        this._refresh();
+    }
+
+    render() {
+        if (!this._statistics) {
+            return html`<span>Loading the statistics...</span>`;
+        }
+        return html`
+            <div class="statistics">
+                <span>Classes registered in the Groovy runtime: <span class="value">${this._statistics.registered}</span></span>
+                <span>Extension methods registered in the Groovy runtime: <span class="value">${this._statistics.methods}</span></span>
+                <span>Classes purged on the last reload: <span class="value">${this._statistics.lastPurged}</span></span>
+                <span>Classes purged since the start: <span class="value">${this._statistics.totalPurged}</span></span>
+                <vaadin-button @click=${this._refresh}>
+                    <vaadin-icon icon="font-awesome-solid:rotate" slot="prefix"></vaadin-icon>
+                    Refresh
+                </vaadin-button>
+            </div>`;
+    }
+
+    _refresh() {
+        this.jsonRpc.getStatistics().then(jsonRpcResponse => {
+            this._statistics = jsonRpcResponse.result;
+        });
+    }
+}
+customElements.define('qwc-groovy-classes', QwcGroovyClasses);
@@ -35,6 +35,11 @@ import org.jboss.logging.Logger;
 
 import groovy.lang.GroovySystem;
 import groovy.lang.MetaMethod;
+import groovy.lang.Script;
+import io.quarkiverse.groovy.runtime.dev.MetaClassCleaner;
+import io.quarkiverse.groovy.runtime.script.GroovyScriptRegistry;
+import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
@@ -49,6 +54,36 @@ public class GroovyRecorder {
         }
     }
 
+    /**
+     * Purges the Groovy runtime from the classes of the application once it is stopped, since the class loader of the
+     * application is discarded on each reload.
+     *
+     * @param shutdownContext the context on which the purge is registered.
+     */
+    public void cleanUpMetaClassesOnShutdown(ShutdownContext shutdownContext) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        shutdownContext.addLastShutdownTask(() -> MetaClassCleaner.cleanUp(classLoader));
+    }
+
+    /**
+     * Creates the registry of the Groovy scripts compiled at build time.
+     *
+     * @param scripts the name of the classes of the compiled scripts by path.
+     * @return the registry of the scripts.
+     */
+    public RuntimeValue<GroovyScriptRegistry> createScriptRegistry(Map<String, String> scripts) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        Map<String, Class<? extends Script>> classes = new HashMap<>();
+        for (Map.Entry<String, String> entry : scripts.entrySet()) {
+            try {
+                classes.put(entry.getKey(), Class.forName(entry.getValue(), false, classLoader).asSubclass(Script.class));
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException("The compiled script %s could not be found".formatted(entry.getKey()), e);
+            }
+        }
+        return new RuntimeValue<>(new GroovyScriptRegistry(classes));
+    }
+
     private static void scanModulesFrom(String moduleMetaInfFile) {
         try {
             Enumeration<URL> resources = Thread.currentThread().getContextClassLoader().getResources(moduleMetaInfFile);
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.runtime.dev;
+
+import java.util.Map;
+
+/**
+ * The JSON-RPC service of the Dev UI card of the Groovy extension.
+ */
+public class GroovyJsonRpcService {
+
+    /**
+     * @return the amount of classes currently known by the Groovy runtime.
+     */
+    public int getRegisteredClassCount() {
+        return MetaClassCleaner.getRegisteredClassCount();
+    }
+
+    /**
+     * @return the amount of classes and extension methods currently known by the Groovy runtime and the amount of
+     *         classes purged on reload.
+     */
+    public Map<String, Number> getStatistics() {
+        return Map.of("registered", MetaClassCleaner.getRegisteredClassCount(),
+                "methods", MetaClassCleaner.getRegisteredMethodCount(),
+                "lastPurged", MetaClassCleaner.getLastPurgedClassCount(),
+                "totalPurged", MetaClassCleaner.getTotalPurgedClassCount());
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.runtime.dev;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.codehaus.groovy.reflection.CachedClass;
+import org.codehaus.groovy.reflection.CachedMethod;
+import org.codehaus.groovy.reflection.ClassInfo;
+import org.codehaus.groovy.reflection.ReflectionCache;
+import org.codehaus.groovy.runtime.m12n.ExtensionModule;
+import org.codehaus.groovy.runtime.m12n.ExtensionModuleRegistry;
+import org.codehaus.groovy.runtime.m12n.SimpleExtensionModule;
+import org.codehaus.groovy.runtime.metaclass.MetaClassRegistryImpl;
+import org.codehaus.groovy.runtime.metaclass.ReflectionMetaMethod;
+import org.codehaus.groovy.util.FastArray;
+import org.jboss.logging.Logger;
+
+import groovy.lang.ExpandoMetaClass;
+import groovy.lang.GroovySystem;
+import groovy.lang.MetaClass;
+import groovy.lang.MetaClassImpl;
+import groovy.lang.MetaClassRegistry;
+import groovy.lang.MetaMethod;
+
+/**
+ * {@code MetaClassCleaner} purges the Groovy runtime from the classes of a class loader that is discarded, like the
+ * class loader of the application on each reload in dev mode, knowing that the meta classes, the {@link ClassInfo}
+ * and the extension modules of these classes are otherwise kept by the Groovy runtime.
+ * <p>
+ * The call sites of the Groovy classes are bound to the classes themselves so they are released with them.
+ */
+public final class MetaClassCleaner {
+
+    private static final Logger LOG = Logger.getLogger(MetaClassCleaner.class);
+
+    private static final AtomicInteger LAST_PURGED = new AtomicInteger();
+    private static final AtomicLong TOTAL_PURGED = new AtomicLong();
+
+    private MetaClassCleaner() {
+    }
+
+    /**
+     * Purges the Groovy runtime from the classes loaded by the given class loader or one of its children.
+     *
+     * @param classLoader the class loader that is discarded.
+     */
+    public static void cleanUp(ClassLoader classLoader) {
+        long start = System.nanoTime();
+        int modules = 0;
+        try {
+            modules = removeExtensionModules(classLoader);
+        } finally {
+            // The classes must be purged whatever happened to the extension modules
+            int classes = removeClasses(classLoader);
+            LOG.debugf("%d classes and %d extension modules purged from the Groovy runtime in %d ms", classes, modules,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * @return the amount of classes currently known by the Groovy runtime.
+     */
+    public static int getRegisteredClassCount() {
+        AtomicInteger count = new AtomicInteger();
+        ClassInfo.onAllClassInfo(info -> count.incrementAndGet());
+        return count.get();
+    }
+
+    /**
+     * @return the amount of extension methods currently registered in the Groovy runtime.
+     */
+    public static int getRegisteredMethodCount() {
+        if (!(GroovySystem.getMetaClassRegistry() instanceof MetaClassRegistryImpl registry)) {
+            return 0;
+        }
+        return registry.getInstanceMethods().size() + registry.getStaticMethods().size();
+    }
+
+    /**
+     * @return the amount of classes purged on the last reload.
+     */
+    public static int getLastPurgedClassCount() {
+        return LAST_PURGED.get();
+    }
+
+    /**
+     * @return the amount of classes purged since the start of the dev mode.
+     */
+    public static long getTotalPurgedClassCount() {
+        return TOTAL_PURGED.get();
+    }
+
+    /**
+     * Removes the extension modules whose classes are loaded by the given class loader, otherwise the modules of the
+     * new class loader would be ignored as already registered, and their methods from the registry and from the mop
+     * methods of the classes they extend.
+     *
+     * @return the amount of removed extension modules.
+     */
+    private static int removeExtensionModules(ClassLoader classLoader) {
+        if (!(GroovySystem.getMetaClassRegistry() instanceof MetaClassRegistryImpl registry)) {
+            return 0;
+        }
+        ExtensionModuleRegistry moduleRegistry = registry.getModuleRegistry();
+        int removed = 0;
+        for (ExtensionModule module : new ArrayList<>(moduleRegistry.getModules())) {
+            if (module instanceof SimpleExtensionModule extensionModule && Stream
+                    .concat(extensionModule.getInstanceMethodsExtensionClasses().stream(),
+                            extensionModule.getStaticMethodsExtensionClasses().stream())
+                    .anyMatch(extensionClass -> isLoadedBy(extensionClass, classLoader))) {
+                moduleRegistry.removeModule(module);
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            // The meta methods of a module are created on each call, so they are matched by their declaring class
+            removeMetaMethods(registry.getInstanceMethods(), classLoader);
+            removeMetaMethods(registry.getStaticMethods(), classLoader);
+            removeMopMethods(classLoader);
+        }
+        return removed;
+    }
+
+    private static void removeMetaMethods(FastArray methods, ClassLoader classLoader) {
+        synchronized (methods) {
+            for (int i = methods.size() - 1; i >= 0; i--) {
+                if (isDeclaredBy((MetaMethod) methods.get(i), classLoader)) {
+                    methods.remove(i);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the extension methods declared by the classes of the given class loader from the classes that are kept,
+     * to which they have been added as mop methods when registering the extension modules.
+     * <p>
+     * Setting the mop methods of a class replaces its meta class, so only the classes with a plain
+     * {@link MetaClassImpl} or no meta class yet are updated, the others keep the removed methods until they are
+     * discarded.
+     */
+    private static void removeMopMethods(ClassLoader classLoader) {
+        List<ClassInfo> classInfos = new ArrayList<>();
+        ClassInfo.onAllClassInfo(info -> {
+            if (!isLoadedBy(info.getTheClass(), classLoader)) {
+                classInfos.add(info);
+            }
+        });
+        for (ClassInfo info : classInfos) {
+            MetaClass metaClass = info.getStrongMetaClass();
+            if (metaClass != null && metaClass.getClass() != MetaClassImpl.class) {
+                continue;
+            }
+            CachedClass cachedClass = info.getCachedClass();
+            try {
+                List<MetaMethod> methods = new ArrayList<>(Arrays.asList(cachedClass.getNewMetaMethods()));
+                if (methods.removeIf(method -> isDeclaredBy(method, classLoader))) {
+                    // Only the own mop methods are set, not the subclass expando methods of the class and its parents
+                    methods.removeAll(getSubclassExpandoMethods(cachedClass));
+                    cachedClass.setNewMopMethods(methods);
+                }
+            } catch (RuntimeException e) {
+                LOG.debugf(e, "The extension methods could not be removed from the class %s", info.getTheClass());
+            }
+        }
+    }
+
+    /**
+     * @return the subclass expando methods that {@link CachedClass#getNewMetaMethods()} adds to the own mop methods of
+     *         the given class.
+     */
+    private static List<MetaMethod> getSubclassExpandoMethods(CachedClass cachedClass) {
+        List<CachedClass> classes = new ArrayList<>();
+        for (CachedClass c = cachedClass; c != null; c = c.getCachedSuperClass()) {
+            classes.add(c);
+        }
+        classes.addAll(cachedClass.getInterfaces());
+        if (cachedClass.getTheClass().isInterface()) {
+            classes.add(ReflectionCache.OBJECT_CLASS);
+        }
+        List<MetaMethod> methods = new ArrayList<>();
+        for (CachedClass c : classes) {
+            if (c.classInfo.getStrongMetaClass() instanceof ExpandoMetaClass metaClass) {
+                for (Object method : metaClass.getExpandoSubclassMethods()) {
+                    if (method instanceof MetaMethod metaMethod) {
+                        methods.add(metaMethod);
+                    }
+                }
+            }
+        }
+        return methods;
+    }
+
+    /**
+     * Removes the meta classes and the {@link ClassInfo} of the classes loaded by the given class loader.
+     *
+     * @return the amount of removed classes.
+     */
+    private static int removeClasses(ClassLoader classLoader) {
+        List<ClassInfo> classInfos = new ArrayList<>();
+        ClassInfo.onAllClassInfo(info -> {
+            if (isLoadedBy(info.getTheClass(), classLoader)) {
+                classInfos.add(info);
+            }
+        });
+        MetaClassRegistry registry = GroovySystem.getMetaClassRegistry();
+        for (ClassInfo info : classInfos) {
+            Class<?> theClass = info.getTheClass();
+            registry.removeMetaClass(theClass);
+            ClassInfo.remove(theClass);
+        }
+        LAST_PURGED.set(classInfos.size());
+        TOTAL_PURGED.addAndGet(classInfos.size());
+        return classInfos.size();
+    }
+
+    /**
+     * @return {@code true} if the given method is implemented by a class loaded by the given class loader or one of
+     *         its children, like the methods of an extension module, {@code false} otherwise.
+     */
+    private static boolean isDeclaredBy(MetaMethod method, ClassLoader classLoader) {
+        return method instanceof ReflectionMetaMethod reflectionMethod
+                && reflectionMethod.getCachedMethod() instanceof CachedMethod cachedMethod
+                && isLoadedBy(cachedMethod.getDeclaringClass().getTheClass(), classLoader);
+    }
+
+    /**
+     * @return {@code true} if the given class has been loaded by the given class loader or one of its children,
+     *         {@code false} otherwise.
+     */
+    private static boolean isLoadedBy(Class<?> theClass, ClassLoader classLoader) {
+        for (ClassLoader loader = theClass.getClassLoader(); loader != null; loader = loader.getParent()) {
+            if (loader == classLoader) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
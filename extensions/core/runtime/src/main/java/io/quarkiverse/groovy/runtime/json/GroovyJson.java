@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.runtime.json;
+
+import jakarta.ws.rs.core.MediaType;
+
+final class GroovyJson {
+
+    private GroovyJson() {
+    }
+
+    /**
+     * @return {@code true} if the given media type is {@code application/json} or a structured syntax suffix of it,
+     *         {@code false} otherwise.
+     */
+    static boolean isJson(MediaType mediaType) {
+        if (mediaType == null) {
+            return false;
+        }
+        String subtype = mediaType.getSubtype();
+        return "application".equals(mediaType.getType()) && ("json".equals(subtype) || subtype.endsWith("+json"));
+    }
+}
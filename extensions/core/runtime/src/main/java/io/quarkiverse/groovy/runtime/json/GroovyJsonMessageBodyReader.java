@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.runtime.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.Provider;
+
+import groovy.json.JsonParserType;
+import groovy.json.JsonSlurper;
+import io.quarkiverse.groovy.runtime.rest.GroovyRest;
+
+/**
+ * {@code GroovyJsonMessageBodyReader} parses the JSON request bodies into maps and lists using a {@link JsonSlurper}
+ * in {@link JsonParserType#INDEX_OVERLAY} mode, that keeps the values as indexes into the parsed content until they
+ * are accessed. The whole body is decoded into a {@code char[]} that is kept as long as any parsed value is kept.
+ * It is only registered when the REST extension has no JSON provider of its own, that is neither Jackson nor JSON-B.
+ */
+@Provider
+@Consumes({ MediaType.APPLICATION_JSON, "application/*+json" })
+public class GroovyJsonMessageBodyReader implements MessageBodyReader<Object> {
+
+    @Override
+    public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return (type == Object.class || type == Map.class || type == List.class) && GroovyJson.isJson(mediaType);
+    }
+
+    @Override
+    public Object readFrom(Class<Object> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+            MultivaluedMap<String, String> httpHeaders, InputStream entityStream) throws IOException {
+        // A JsonSlurper is not thread safe
+        JsonSlurper slurper = new JsonSlurper().setType(JsonParserType.INDEX_OVERLAY);
+        return slurper.parse(entityStream, GroovyRest.charset(mediaType).name());
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.runtime.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+import jakarta.ws.rs.ext.Provider;
+
+import groovy.lang.GString;
+import groovy.lang.Writable;
+import io.quarkiverse.groovy.runtime.rest.GroovyRest;
+
+/**
+ * {@code GroovyJsonMessageBodyWriter} writes the JSON content of a {@link Writable} like a
+ * {@link groovy.json.JsonBuilder} or a closure filling a {@link groovy.json.StreamingJsonBuilder} directly into the
+ * response entity stream, without building the whole content as a {@code String} first.
+ */
+@Provider
+@Produces({ MediaType.APPLICATION_JSON, "application/*+json" })
+public class GroovyJsonMessageBodyWriter implements MessageBodyWriter<Writable> {
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        // The GStrings are written by GStringMessageBodyWriter whatever the media type
+        return Writable.class.isAssignableFrom(type) && !GString.class.isAssignableFrom(type)
+                && GroovyJson.isJson(mediaType);
+    }
+
+    @Override
+    public void writeTo(Writable writable, Class<?> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+            throws IOException {
+        GroovyRest.write(writable, mediaType, entityStream);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.runtime.panache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records the Panache operations into Micrometer meters tagged with the entity class, the operation and the shape
+ * of the query.
+ * <p>
+ * It is shared by the Panache extensions, and it refers to Micrometer which is an optional dependency so it must only
+ * be loaded when the metrics are enabled.
+ */
+public final class MicrometerQueryMetrics {
+
+    static final String TIMER_NAME = "groovy.panache.query";
+    static final String ROWS_NAME = "groovy.panache.query.rows";
+
+    /**
+     * The maximum amount of query shapes kept, beyond which the queries are all tagged with {@link #OTHER_QUERIES} to
+     * limit the cardinality of the meters.
+     */
+    private static final int MAX_SHAPES = 500;
+    private static final int MAX_SHAPE_LENGTH = 200;
+    private static final String ALL_ENTITIES = "<all>";
+    private static final String OTHER_QUERIES = "<other>";
+    private static final Pattern LITERALS = Pattern.compile("'(?:[^']|'')*'|(?<![?:\\w])\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+    private final MeterRegistry registry;
+    private final Map<String, String> shapes = new ConcurrentHashMap<>();
+    private final Map<MeterKey, Meters> meters = new ConcurrentHashMap<>();
+
+    MicrometerQueryMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * @return the metrics recording into the global registry of Micrometer.
+     */
+    public static MicrometerQueryMetrics create() {
+        return new MicrometerQueryMetrics(Metrics.globalRegistry);
+    }
+
+    /**
+     * Records a Panache operation.
+     *
+     * @param durationNanos the duration of the operation in nanoseconds.
+     * @param entityClass the class of the entity on which the operation is performed.
+     * @param operation the name of the operation.
+     * @param query the query of the operation, {@code null} if it applies to all the entities.
+     * @param rows the amount of rows read or written by the operation, {@code -1} if not applicable or unknown.
+     */
+    public void record(long durationNanos, Class<?> entityClass, String operation, String query, long rows) {
+        Meters meters = this.meters.computeIfAbsent(
+                new MeterKey(entityClass == null ? "unknown" : entityClass.getName(), operation, shape(query)),
+                this::register);
+        meters.timer().record(durationNanos, TimeUnit.NANOSECONDS);
+        if (rows >= 0) {
+            meters.rows().increment(rows);
+        }
+    }
+
+    private Meters register(MeterKey key) {
+        Tags tags = Tags.of("entity", key.entity(), "operation", key.operation(), "query", key.query());
+        return new Meters(
+                Timer.builder(TIMER_NAME)
+                        .description("The duration of the Panache operations")
+                        .tags(tags)
+                        .register(registry),
+                Counter.builder(ROWS_NAME)
+                        .description("The amount of rows read or written by the Panache operations")
+                        .tags(tags)
+                        .register(registry));
+    }
+
+    private String shape(String query) {
+        if (query == null || query.isBlank()) {
+            return ALL_ENTITIES;
+        }
+        String shape = shapes.get(query);
+        if (shape == null) {
+            if (shapes.size() >= MAX_SHAPES) {
+                return OTHER_QUERIES;
+            }
+            shape = shapes.computeIfAbsent(query, MicrometerQueryMetrics::normalize);
+        }
+        return shape;
+    }
+
+    /**
+     * @return the given query with the literals replaced by {@code ?}, the whitespaces collapsed and truncated.
+     */
+    static String normalize(String query) {
+        String shape = WHITESPACES.matcher(LITERALS.matcher(query.strip()).replaceAll("?")).replaceAll(" ");
+        return shape.length() > MAX_SHAPE_LENGTH ? shape.substring(0, MAX_SHAPE_LENGTH) : shape;
+    }
+
+    private record MeterKey(String entity, String operation, String query) {
+    }
+
+    private record Meters(Timer timer, Counter rows) {
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.runtime.rest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.ws.rs.core.MediaType;
+
+import org.jboss.logging.Logger;
+
+import groovy.lang.Writable;
+
+/**
+ * {@code GroovyRest} gathers the helpers shared by the JAX-RS providers of the Groovy extensions.
+ */
+public final class GroovyRest {
+
+    private static final Logger LOG = Logger.getLogger(GroovyRest.class);
+
+    private GroovyRest() {
+    }
+
+    /**
+     * @return the charset of the given media type, UTF-8 by default or if the charset is unknown.
+     */
+    public static Charset charset(MediaType mediaType) {
+        String charset = mediaType == null ? null : mediaType.getParameters().get(MediaType.CHARSET_PARAMETER);
+        if (charset == null) {
+            return StandardCharsets.UTF_8;
+        }
+        try {
+            return Charset.forName(charset);
+        } catch (IllegalArgumentException e) {
+            // Covers both the illegal and the unsupported charset names
+            LOG.debugf("The charset %s is unknown, UTF-8 is used instead", charset);
+            return StandardCharsets.UTF_8;
+        }
+    }
+
+    /**
+     * Writes the given {@link Writable} into the given entity stream with the charset of the given media type, each
+     * part written by the {@code Writable} being encoded and written as is since the entity stream is already
+     * buffered by the container.
+     *
+     * @param writable the content to write.
+     * @param mediaType the media type of the content.
+     * @param entityStream the entity stream to write into, left open as it is closed by the container.
+     * @throws IOException if the content could not be written.
+     */
+    public static void write(Writable writable, MediaType mediaType, OutputStream entityStream) throws IOException {
+        Writer writer = new EncodingWriter(entityStream, charset(mediaType));
+        writable.writeTo(writer);
+        writer.flush();
+    }
+
+    /**
+     * An unbuffered {@link Writer} encoding each written part into the underlying stream, unlike an
+     * {@link java.io.OutputStreamWriter} which allocates its own buffers.
+     */
+    private static final class EncodingWriter extends Writer {
+
+        private final OutputStream out;
+        private final Charset charset;
+        /**
+         * The high surrogate ending the last written part, encoded with the next part.
+         */
+        private char highSurrogate;
+
+        EncodingWriter(OutputStream out, Charset charset) {
+            this.out = out;
+            this.charset = charset;
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            encode(String.valueOf((char) c));
+        }
+
+        @Override
+        public void write(char[] buffer, int offset, int length) throws IOException {
+            if (length > 0) {
+                encode(new String(buffer, offset, length));
+            }
+        }
+
+        @Override
+        public void write(String str, int offset, int length) throws IOException {
+            if (length > 0) {
+                encode(str.substring(offset, offset + length));
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (highSurrogate != 0) {
+                // An unpaired surrogate, encoded as the replacement of the charset
+                out.write(String.valueOf(highSurrogate).getBytes(charset));
+                highSurrogate = 0;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+
+        private void encode(String str) throws IOException {
+            if (highSurrogate != 0) {
+                str = highSurrogate + str;
+                highSurrogate = 0;
+            }
+            int last = str.length() - 1;
+            if (Character.isHighSurrogate(str.charAt(last))) {
+                highSurrogate = str.charAt(last);
+                str = str.substring(0, last);
+            }
+            out.write(str.getBytes(charset));
+        }
+    }
+}
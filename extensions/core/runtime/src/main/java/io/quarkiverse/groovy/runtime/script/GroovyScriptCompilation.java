@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.runtime.script;
+
+import groovy.lang.Script;
+
+/**
+ * The result of the compilation of a script of a batch by the {@link GroovyScriptEvaluator}.
+ *
+ * @param source the content of the script.
+ * @param scriptClass the class of the compiled script or {@code null} if the compilation failed.
+ * @param durationNanos the time spent getting the compiled script in nanoseconds, close to zero if the script was
+ *        already in the cache.
+ * @param failure the cause of the failure of the compilation or {@code null} if the compilation succeeded.
+ */
+public record GroovyScriptCompilation(String source, Class<? extends Script> scriptClass, long durationNanos,
+        RuntimeException failure) {
+
+    /**
+     * @return {@code true} if the script could be compiled, {@code false} otherwise.
+     */
+    public boolean succeeded() {
+        return failure == null;
+    }
+}
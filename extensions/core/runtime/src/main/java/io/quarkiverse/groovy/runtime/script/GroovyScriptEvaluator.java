@@ -0,0 +1,401 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.runtime.script;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.reflect.Constructor;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Singleton;
+
+import org.codehaus.groovy.control.CompilerConfiguration;
+import org.codehaus.groovy.runtime.InvokerHelper;
+import org.jboss.logging.Logger;
+
+import groovy.lang.Binding;
+import groovy.lang.GroovyClassLoader;
+import groovy.lang.GroovyCodeSource;
+import groovy.lang.Script;
+
+/**
+ * {@code GroovyScriptEvaluator} evaluates Groovy scripts provided as text at runtime, typically expressions like
+ * rules or filters evaluated at request rate.
+ * <p>
+ * Each script is compiled once and kept in a cache keyed by the hash of its content. Each compiled script is defined
+ * by its own class loader, so that its classes can be unloaded once it is evicted from the cache. A new instance of the
+ * compiled script is created for each evaluation, so that the state of the script, like its {@code @Field} variables,
+ * is never shared between evaluations.
+ * <p>
+ * A batch of scripts can be compiled upfront with {@link #compileAll(Collection)}, the scripts being then compiled
+ * concurrently by a bounded pool of threads with the same compiler configuration.
+ * <p>
+ * Compiling a script at runtime is not supported in native mode, the scripts known at build time can be compiled
+ * upfront and provided by the {@link GroovyScriptRegistry} instead.
+ */
+@Singleton
+public class GroovyScriptEvaluator {
+
+    private static final Logger LOG = Logger.getLogger(GroovyScriptEvaluator.class);
+    private static final String METASPACE = "Metaspace";
+    private static final String CODE_BASE = "/groovy/script";
+    private static final String COMPILER_THREAD_NAME = "groovy-script-compiler-";
+
+    private final int maxSize;
+    private final long expireAfterAccessNanos;
+    private final int parallelism;
+    /**
+     * The compiler configuration shared by all the compiled scripts.
+     */
+    private final CompilerConfiguration configuration;
+    /**
+     * The parent of the class loaders of the compiled scripts, which is the class loader of the application since the
+     * scripts can also be compiled by the threads of the compiler.
+     */
+    private final ClassLoader parentLoader;
+    /**
+     * The compiled scripts by hash of their content in access order.
+     */
+    private final LinkedHashMap<String, CompiledScript> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder compileTime = new LongAdder();
+    /**
+     * The executor compiling the batches of scripts, created on first use.
+     */
+    private ExecutorService executor;
+
+    public GroovyScriptEvaluator(GroovyScriptsConfig config) {
+        this.maxSize = config.cache().maxSize();
+        this.expireAfterAccessNanos = config.cache().expireAfterAccess().map(Duration::toNanos).orElse(-1L);
+        this.parallelism = config.compiler().parallelism().orElse(Runtime.getRuntime().availableProcessors());
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(
+                    "quarkus.groovy.scripts.compiler.parallelism must be at least 1 but is %d".formatted(parallelism));
+        }
+        this.configuration = createCompilerConfiguration(config.compiler().options());
+        this.parentLoader = Thread.currentThread().getContextClassLoader();
+    }
+
+    /**
+     * Evaluates the given script without variables.
+     *
+     * @param source the content of the script.
+     * @return the result of the script.
+     */
+    public Object evaluate(String source) {
+        return evaluate(source, Map.of());
+    }
+
+    /**
+     * Evaluates the given script with the given variables.
+     *
+     * @param source the content of the script.
+     * @param variables the variables of the script.
+     * @return the result of the script.
+     */
+    public Object evaluate(String source, Map<String, ?> variables) {
+        CompiledScript compiledScript = getCompiledScript(source);
+        Script script;
+        try {
+            script = compiledScript.constructor.newInstance(new Binding(new HashMap<>(variables)));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("The script %s could not be created"
+                    .formatted(compiledScript.scriptClass.getName()), e);
+        }
+        return script.run();
+    }
+
+    /**
+     * Gives the class of the given script, compiled if it is not in the cache yet.
+     *
+     * @param source the content of the script.
+     * @return the class of the compiled script.
+     */
+    public Class<? extends Script> compile(String source) {
+        return getCompiledScript(source).scriptClass;
+    }
+
+    /**
+     * Compiles concurrently the given scripts that are not in the cache yet, at most as many scripts at a time as the
+     * configured parallelism. The classes of the compiled scripts remain usable once evicted from the cache, so the
+     * batch can be larger than the cache, its first scripts being then compiled again if they are evaluated.
+     *
+     * @param sources the content of the scripts.
+     * @return the result of the compilation of each script in the same order as the given scripts.
+     */
+    public List<GroovyScriptCompilation> compileAll(Collection<String> sources) {
+        if (sources.size() > maxSize) {
+            LOG.debugf("The batch of %d scripts exceeds the maximum size of the cache %d", sources.size(), maxSize);
+        }
+        long start = System.nanoTime();
+        ExecutorService compiler = getExecutor();
+        List<CompletableFuture<GroovyScriptCompilation>> futures = new ArrayList<>(sources.size());
+        for (String source : sources) {
+            futures.add(CompletableFuture.supplyAsync(() -> compileInBatch(source), compiler));
+        }
+        List<GroovyScriptCompilation> compilations = new ArrayList<>(futures.size());
+        for (CompletableFuture<GroovyScriptCompilation> future : futures) {
+            compilations.add(future.join());
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debugf("%d scripts compiled in %d ms", compilations.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+        return compilations;
+    }
+
+    /**
+     * @return the statistics of the evaluator.
+     */
+    public GroovyScriptStatistics getStatistics() {
+        return new GroovyScriptStatistics(getHitCount(), getMissCount(), getEvictionCount(), getCompileTimeNanos(),
+                getCacheSize(), getLoadedClassCount(), metaspaceUsed());
+    }
+
+    long getHitCount() {
+        return hits.sum();
+    }
+
+    long getMissCount() {
+        return misses.sum();
+    }
+
+    long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    long getCompileTimeNanos() {
+        return compileTime.sum();
+    }
+
+    int getCacheSize() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    long getLoadedClassCount() {
+        long loadedClasses = 0;
+        synchronized (cache) {
+            for (CompiledScript compiledScript : cache.values()) {
+                loadedClasses += compiledScript.classLoader.getLoadedClasses().length;
+            }
+        }
+        return loadedClasses;
+    }
+
+    /**
+     * Evicts all the compiled scripts from the cache.
+     */
+    public void clear() {
+        synchronized (cache) {
+            for (Iterator<CompiledScript> iterator = cache.values().iterator(); iterator.hasNext();) {
+                release(iterator.next());
+                iterator.remove();
+            }
+        }
+    }
+
+    @PreDestroy
+    synchronized void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    private GroovyScriptCompilation compileInBatch(String source) {
+        long start = System.nanoTime();
+        try {
+            return new GroovyScriptCompilation(source, getCompiledScript(source).scriptClass,
+                    System.nanoTime() - start, null);
+        } catch (RuntimeException e) {
+            return new GroovyScriptCompilation(source, null, System.nanoTime() - start, e);
+        }
+    }
+
+    private synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            AtomicInteger threads = new AtomicInteger();
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(parallelism, parallelism, 1, TimeUnit.MINUTES,
+                    new LinkedBlockingQueue<>(), task -> {
+                        Thread thread = new Thread(task, COMPILER_THREAD_NAME + threads.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            // Release the threads between the batches
+            pool.allowCoreThreadTimeOut(true);
+            executor = pool;
+        }
+        return executor;
+    }
+
+    private CompiledScript getCompiledScript(String source) {
+        String hash = hash(source);
+        CompiledScript compiledScript;
+        synchronized (cache) {
+            evictExpired();
+            compiledScript = cache.get(hash);
+            if (compiledScript != null) {
+                compiledScript.lastAccess = System.nanoTime();
+                hits.increment();
+                return compiledScript;
+            }
+        }
+        misses.increment();
+        // Compile outside the lock to let the other scripts be evaluated in the meantime
+        compiledScript = compile(hash, source);
+        synchronized (cache) {
+            CompiledScript existing = cache.putIfAbsent(hash, compiledScript);
+            if (existing != null) {
+                // Compiled concurrently by another thread
+                release(compiledScript);
+                return existing;
+            }
+            if (cache.size() > maxSize) {
+                Iterator<CompiledScript> eldest = cache.values().iterator();
+                release(eldest.next());
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+        return compiledScript;
+    }
+
+    private CompiledScript compile(String hash, String source) {
+        long start = System.nanoTime();
+        GroovyClassLoader classLoader = new GroovyClassLoader(parentLoader, configuration);
+        Class<? extends Script> scriptClass = classLoader
+                .parseClass(new GroovyCodeSource(source, "Script_" + hash + ".groovy", CODE_BASE), false)
+                .asSubclass(Script.class);
+        long duration = System.nanoTime() - start;
+        compileTime.add(duration);
+        if (LOG.isDebugEnabled()) {
+            LOG.debugf("Script %s compiled in %d ms", hash, TimeUnit.NANOSECONDS.toMillis(duration));
+        }
+        return new CompiledScript(scriptClass, classLoader);
+    }
+
+    /**
+     * Evicts the scripts that have not been used for too long, knowing that the eldest entries are the least recently
+     * used.
+     */
+    private void evictExpired() {
+        if (expireAfterAccessNanos < 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        for (Iterator<CompiledScript> iterator = cache.values().iterator(); iterator.hasNext();) {
+            CompiledScript compiledScript = iterator.next();
+            if (now - compiledScript.lastAccess < expireAfterAccessNanos) {
+                break;
+            }
+            release(compiledScript);
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    /**
+     * Drops all the references to the given compiled script so that its class loader and thus its classes can be
+     * garbage collected, including the meta classes and the {@code ClassInfo} kept by the Groovy runtime for the
+     * classes of the script once it has been run.
+     */
+    private static void release(CompiledScript compiledScript) {
+        for (Class<?> loadedClass : compiledScript.classLoader.getLoadedClasses()) {
+            InvokerHelper.removeClass(loadedClass);
+        }
+        try {
+            compiledScript.classLoader.close();
+        } catch (IOException e) {
+            LOG.debugf("The class loader of the script %s could not be closed: %s",
+                    compiledScript.scriptClass.getName(), e.getMessage());
+        }
+    }
+
+    /**
+     * Creates the compiler configuration from the given options, the same way as the compiler configuration of the
+     * dev mode.
+     */
+    private static CompilerConfiguration createCompilerConfiguration(Map<String, String> options) {
+        if (options.isEmpty()) {
+            return new CompilerConfiguration();
+        }
+        Properties properties = new Properties(options.size());
+        properties.putAll(options);
+        return new CompilerConfiguration(properties);
+    }
+
+    private static String hash(String source) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long metaspaceUsed() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (METASPACE.equals(pool.getName())) {
+                return pool.getUsage().getUsed();
+            }
+        }
+        return -1;
+    }
+
+    private static final class CompiledScript {
+
+        final Class<? extends Script> scriptClass;
+        final Constructor<? extends Script> constructor;
+        final GroovyClassLoader classLoader;
+        volatile long lastAccess = System.nanoTime();
+
+        CompiledScript(Class<? extends Script> scriptClass, GroovyClassLoader classLoader) {
+            this.scriptClass = scriptClass;
+            try {
+                this.constructor = scriptClass.getConstructor(Binding.class);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException("The class %s is not a script".formatted(scriptClass.getName()), e);
+            }
+            this.classLoader = classLoader;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.runtime.script;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.codehaus.groovy.runtime.InvokerHelper;
+
+import groovy.lang.Binding;
+import groovy.lang.Script;
+
+/**
+ * {@code GroovyScriptRegistry} provides the Groovy scripts compiled at build time, which allows to run them without
+ * parsing them at runtime, knowing that parsing a script is not supported in native mode.
+ * <p>
+ * The scripts are identified by their path relative to the resource directory in which they have been found, with or
+ * without their suffix.
+ */
+public class GroovyScriptRegistry {
+
+    /**
+     * The suffix of the Groovy scripts.
+     */
+    public static final String SUFFIX = ".groovy";
+
+    /**
+     * The classes of the compiled scripts by path.
+     */
+    private final Map<String, Class<? extends Script>> scripts;
+
+    public GroovyScriptRegistry(Map<String, Class<? extends Script>> scripts) {
+        this.scripts = Map.copyOf(scripts);
+    }
+
+    /**
+     * @return the path of all the compiled scripts.
+     */
+    public Set<String> getPaths() {
+        return scripts.keySet();
+    }
+
+    /**
+     * @param path the path of the script.
+     * @return {@code true} if a script has been compiled for the given path, {@code false} otherwise.
+     */
+    public boolean contains(String path) {
+        return getScriptClass(path) != null;
+    }
+
+    /**
+     * Gives the class of the script compiled for the given path.
+     *
+     * @param path the path of the script.
+     * @return the class of the script or {@code null} if there is no such script.
+     */
+    public Class<? extends Script> getScriptClass(String path) {
+        Class<? extends Script> scriptClass = scripts.get(path);
+        return scriptClass == null ? scripts.get(path + SUFFIX) : scriptClass;
+    }
+
+    /**
+     * Creates a new instance of the script compiled for the given path with an empty binding.
+     *
+     * @param path the path of the script.
+     * @return a new instance of the script ready to be run.
+     * @throws IllegalArgumentException if there is no script for the given path.
+     */
+    public Script getScript(String path) {
+        return getScript(path, new Binding());
+    }
+
+    /**
+     * Creates a new instance of the script compiled for the given path with the given binding.
+     *
+     * @param path the path of the script.
+     * @param binding the binding of the script.
+     * @return a new instance of the script ready to be run.
+     * @throws IllegalArgumentException if there is no script for the given path.
+     */
+    public Script getScript(String path, Binding binding) {
+        Class<? extends Script> scriptClass = getScriptClass(path);
+        if (scriptClass == null) {
+            throw new IllegalArgumentException("No script %s has been compiled at build time".formatted(path));
+        }
+        return InvokerHelper.createScript(scriptClass, binding);
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.runtime.script;
+
+/**
+ * The statistics of the {@link GroovyScriptEvaluator}.
+ *
+ * @param hits the amount of evaluations of a script found in the cache.
+ * @param misses the amount of evaluations of a script that had to be compiled.
+ * @param evictions the amount of compiled scripts evicted from the cache.
+ * @param compileTimeNanos the total time spent compiling the scripts in nanoseconds.
+ * @param size the amount of compiled scripts in the cache.
+ * @param loadedClasses the amount of classes loaded by the compiled scripts of the cache.
+ * @param metaspaceUsed the amount of bytes used by the Metaspace or {@code -1} if it is unknown.
+ */
+public record GroovyScriptStatistics(long hits, long misses, long evictions, long compileTimeNanos, int size,
+        long loadedClasses, long metaspaceUsed) {
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.runtime.script;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Runtime configuration of the Groovy scripts evaluated on demand.
+ */
+@ConfigMapping(prefix = "quarkus.groovy.scripts")
+@ConfigRoot(phase = ConfigPhase.RUN_TIME)
+public interface GroovyScriptsConfig {
+
+    /**
+     * The cache of the scripts compiled by the {@code GroovyScriptEvaluator}.
+     */
+    Cache cache();
+
+    /**
+     * The compiler of the {@code GroovyScriptEvaluator}.
+     */
+    Compiler compiler();
+
+    interface Cache {
+
+        /**
+         * The maximum amount of compiled scripts kept in the cache, beyond which the least recently used script is
+         * evicted and its classes unloaded.
+         */
+        @WithDefault("500")
+        int maxSize();
+
+        /**
+         * The duration after which a compiled script that has not been used is evicted from the cache. The compiled
+         * scripts do not expire by default.
+         */
+        Optional<Duration> expireAfterAccess();
+    }
+
+    interface Compiler {
+
+        /**
+         * The maximum amount of scripts compiled concurrently when compiling a batch of scripts, at least {@code 1},
+         * the amount of available processors by default.
+         */
+        OptionalInt parallelism();
+
+        /**
+         * The compilation options shared by all the compiled scripts, like {@code groovy.parameters} or
+         * {@code groovy.script.base}, the supported options being the same as the ones of the dev mode.
+         */
+        Map<String, String> options();
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.runtime.script;
+
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Exposes the statistics of the {@link GroovyScriptEvaluator} as Micrometer meters, the usage of the Metaspace being
+ * already exposed by the meter {@code jvm.memory.used} of the JVM metrics.
+ */
+@Singleton
+public class MicrometerScriptMetrics implements MeterBinder {
+
+    @Inject
+    GroovyScriptEvaluator evaluator;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("groovy.scripts.cache.requests", evaluator, GroovyScriptEvaluator::getHitCount)
+                .description("The amount of evaluations of a script found in the cache")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("groovy.scripts.cache.requests", evaluator, GroovyScriptEvaluator::getMissCount)
+                .description("The amount of evaluations of a script that had to be compiled")
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("groovy.scripts.cache.evictions", evaluator, GroovyScriptEvaluator::getEvictionCount)
+                .description("The amount of compiled scripts evicted from the cache")
+                .register(registry);
+        FunctionCounter.builder("groovy.scripts.compile.time", evaluator,
+                e -> e.getCompileTimeNanos() / 1_000_000_000d)
+                .description("The total time spent compiling the scripts")
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder("groovy.scripts.cache.size", evaluator, GroovyScriptEvaluator::getCacheSize)
+                .description("The amount of compiled scripts in the cache")
+                .register(registry);
+        Gauge.builder("groovy.scripts.classes.loaded", evaluator, GroovyScriptEvaluator::getLoadedClassCount)
+                .description("The amount of classes loaded by the compiled scripts of the cache")
+                .register(registry);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.hibernate.orm.panache.deployment;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * Represents a literal query passed to a find, list or stream method of a Panache entity or repository.
+ */
+public final class LiteralFindQueryBuildItem extends MultiBuildItem {
+
+    private final String entityClass;
+    private final String query;
+    private final int paramCount;
+
+    /**
+     * @param entityClass the name of the entity class targeted by the query.
+     * @param query the literal query.
+     * @param paramCount the total amount of indexed parameters of the query or {@code -1} if unknown.
+     */
+    public LiteralFindQueryBuildItem(String entityClass, String query, int paramCount) {
+        this.entityClass = entityClass;
+        this.query = query;
+        this.paramCount = paramCount;
+    }
+
+    public String getEntityClass() {
+        return entityClass;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public int getParamCount() {
+        return paramCount;
+    }
+}
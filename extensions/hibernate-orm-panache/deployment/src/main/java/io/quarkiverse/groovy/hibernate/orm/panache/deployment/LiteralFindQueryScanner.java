@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.hibernate.orm.panache.deployment;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.jboss.logging.Logger;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.IntInsnNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.TypeInsnNode;
+import org.objectweb.asm.tree.analysis.Analyzer;
+import org.objectweb.asm.tree.analysis.AnalyzerException;
+import org.objectweb.asm.tree.analysis.Frame;
+import org.objectweb.asm.tree.analysis.SourceInterpreter;
+import org.objectweb.asm.tree.analysis.SourceValue;
+
+import io.quarkus.panache.common.Sort;
+
+/**
+ * {@code LiteralFindQueryScanner} finds in the bytecode of a class, the literal queries passed to the find, list and
+ * stream methods of the Panache entities and repositories.
+ * <p>
+ * Only the statically compiled method calls can be detected, the calls made through the Groovy dynamic dispatch are
+ * ignored as their target cannot be known at build time.
+ */
+final class LiteralFindQueryScanner {
+
+    private static final Logger log = Logger.getLogger(LiteralFindQueryScanner.class);
+    private static final Set<String> FIND_METHOD_NAMES = Set.of("find", "list", "stream");
+    private static final String STRING_DESCRIPTOR = Type.getDescriptor(String.class);
+    private static final String SORT_DESCRIPTOR = Type.getDescriptor(Sort.class);
+    private static final String OBJECT_ARRAY_DESCRIPTOR = Type.getDescriptor(Object[].class);
+
+    /**
+     * The internal name of the entity class targeted by each Panache entity or repository, indexed by the internal name
+     * of the entity or repository class.
+     */
+    private final Map<String, String> ownerToEntity;
+
+    /**
+     * @param ownerToEntity the internal name of the entity class targeted by each Panache entity or repository.
+     */
+    LiteralFindQueryScanner(Map<String, String> ownerToEntity) {
+        this.ownerToEntity = ownerToEntity;
+    }
+
+    /**
+     * @param bytecode the bytecode of the class to scan.
+     * @param queries the consumer of the literal queries found.
+     */
+    void scan(byte[] bytecode, Consumer<LiteralFindQueryBuildItem> queries) {
+        ClassNode classNode = new ClassNode();
+        new ClassReader(bytecode).accept(classNode, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        for (MethodNode method : classNode.methods) {
+            if (hasFindMethodCall(method)) {
+                scan(classNode.name, method, queries);
+            }
+        }
+    }
+
+    private void scan(String owner, MethodNode method, Consumer<LiteralFindQueryBuildItem> queries) {
+        Frame<SourceValue>[] frames;
+        try {
+            frames = new Analyzer<>(new SourceInterpreter()).analyze(owner, method);
+        } catch (AnalyzerException e) {
+            log.debugf("The method %s of %s could not be analyzed: %s", method.name, owner, e.getMessage());
+            return;
+        }
+        for (int i = 0; i < method.instructions.size(); i++) {
+            AbstractInsnNode insn = method.instructions.get(i);
+            Frame<SourceValue> frame = frames[i];
+            if (frame == null || !isFindMethodCall(insn)) {
+                continue;
+            }
+            MethodInsnNode call = (MethodInsnNode) insn;
+            Type[] argumentTypes = Type.getArgumentTypes(call.desc);
+            int firstArgument = frame.getStackSize() - argumentTypes.length;
+            AbstractInsnNode querySource = singleSource(frame.getStack(firstArgument));
+            if (querySource instanceof LdcInsnNode ldc && ldc.cst instanceof String query && !query.startsWith("#")) {
+                int paramCount = -1;
+                if (OBJECT_ARRAY_DESCRIPTOR.equals(argumentTypes[argumentTypes.length - 1].getDescriptor())) {
+                    paramCount = arrayLength(method, frames, singleSource(frame.getStack(frame.getStackSize() - 1)));
+                }
+                queries.accept(new LiteralFindQueryBuildItem(ownerToEntity.get(call.owner).replace('/', '.'), query,
+                        paramCount));
+            }
+        }
+    }
+
+    private boolean hasFindMethodCall(MethodNode method) {
+        for (AbstractInsnNode insn : method.instructions) {
+            if (isFindMethodCall(insn)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isFindMethodCall(AbstractInsnNode insn) {
+        if (insn instanceof MethodInsnNode call && FIND_METHOD_NAMES.contains(call.name)
+                && ownerToEntity.containsKey(call.owner)) {
+            Type[] argumentTypes = Type.getArgumentTypes(call.desc);
+            if (argumentTypes.length == 0 || !STRING_DESCRIPTOR.equals(argumentTypes[0].getDescriptor())) {
+                return false;
+            }
+            // The sort is the only optional argument between the query and its parameters
+            return argumentTypes.length == 2
+                    || argumentTypes.length == 3 && SORT_DESCRIPTOR.equals(argumentTypes[1].getDescriptor());
+        }
+        return false;
+    }
+
+    /**
+     * @return the length of the array created by the given instruction if it is known, {@code -1} otherwise.
+     */
+    private static int arrayLength(MethodNode method, Frame<SourceValue>[] frames, AbstractInsnNode arraySource) {
+        if (arraySource instanceof TypeInsnNode newArray && newArray.getOpcode() == Opcodes.ANEWARRAY) {
+            Frame<SourceValue> frame = frames[method.instructions.indexOf(newArray)];
+            AbstractInsnNode lengthSource = singleSource(frame.getStack(frame.getStackSize() - 1));
+            if (lengthSource instanceof InsnNode constant && constant.getOpcode() >= Opcodes.ICONST_0
+                    && constant.getOpcode() <= Opcodes.ICONST_5) {
+                return constant.getOpcode() - Opcodes.ICONST_0;
+            } else if (lengthSource instanceof IntInsnNode constant && constant.getOpcode() != Opcodes.NEWARRAY) {
+                return constant.operand;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the only instruction that produced the given value, {@code null} if several instructions can produce it.
+     */
+    private static AbstractInsnNode singleSource(SourceValue value) {
+        return value.insns.size() == 1 ? value.insns.iterator().next() : null;
+    }
+}
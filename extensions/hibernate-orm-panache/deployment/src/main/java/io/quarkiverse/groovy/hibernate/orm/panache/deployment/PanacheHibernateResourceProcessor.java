@@ -18,6 +18,11 @@ package io.quarkiverse.groovy.hibernate.orm.panache.deployment;
 
 import static io.quarkiverse.groovy.hibernate.orm.panache.deployment.EntityToPersistenceUnitUtil.determineEntityPersistenceUnits;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -26,12 +31,17 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 
 import org.hibernate.Session;
+import org.hibernate.annotations.Cache;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Type;
 
 import io.quarkiverse.groovy.hibernate.orm.panache.PanacheEntity;
 import io.quarkiverse.groovy.hibernate.orm.panache.PanacheEntityBase;
@@ -47,9 +57,12 @@ import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Consume;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.ApplicationIndexBuildItem;
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.ServiceStartBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
 import io.quarkus.deployment.util.JandexUtil;
 import io.quarkus.hibernate.orm.deployment.JpaModelPersistenceUnitMappingBuildItem;
 import io.quarkus.hibernate.orm.deployment.spi.AdditionalJpaModelBuildItem;
@@ -57,6 +70,7 @@ import io.quarkus.panache.common.deployment.PanacheMethodCustomizer;
 import io.quarkus.panache.common.deployment.PanacheMethodCustomizerBuildItem;
 import io.quarkus.panache.hibernate.common.deployment.HibernateEnhancersRegisteredBuildItem;
 import io.quarkus.panache.hibernate.common.deployment.PanacheJpaEntityOperationsEnhancer;
+import io.quarkus.runtime.metrics.MetricsFactory;
 
 public final class PanacheHibernateResourceProcessor {
 
@@ -69,6 +83,9 @@ public final class PanacheHibernateResourceProcessor {
     private static final DotName DOTNAME_SESSION = DotName.createSimple(Session.class.getName());
 
     private static final DotName DOTNAME_ID = DotName.createSimple(Id.class.getName());
+    private static final DotName DOTNAME_ENTITY = DotName.createSimple(Entity.class.getName());
+    private static final DotName DOTNAME_CACHEABLE = DotName.createSimple(Cacheable.class.getName());
+    private static final DotName DOTNAME_CACHE = DotName.createSimple(Cache.class.getName());
 
     @BuildStep
     FeatureBuildItem featureBuildItem() {
@@ -161,6 +178,156 @@ public final class PanacheHibernateResourceProcessor {
                         .orElse(false));
     }
 
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    void recordCacheableEntities(PanacheHibernateOrmBuildTimeConfig config, CombinedIndexBuildItem index,
+            PanacheHibernateOrmRecorder recorder) {
+        Set<String> cacheableEntities = new HashSet<>();
+        if (config.cacheFindAllQueries()) {
+            for (ClassInfo classInfo : index.getIndex().getKnownClasses()) {
+                if (isCacheable(classInfo) && classInfo.hasDeclaredAnnotation(DOTNAME_ENTITY)) {
+                    cacheableEntities.add(classInfo.name().toString());
+                }
+            }
+        }
+        // Always recorded, since the entities of the previous application are otherwise kept on reload
+        recorder.setCacheableEntities(cacheableEntities);
+    }
+
+    private static boolean isCacheable(ClassInfo classInfo) {
+        if (classInfo.hasDeclaredAnnotation(DOTNAME_CACHE)) {
+            return true;
+        }
+        AnnotationInstance cacheable = classInfo.declaredAnnotation(DOTNAME_CACHEABLE);
+        return cacheable != null && (cacheable.value() == null || cacheable.value().asBoolean());
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void enableQueryMetrics(PanacheHibernateOrmBuildTimeConfig config,
+            Optional<MetricsCapabilityBuildItem> metricsCapability, PanacheHibernateOrmRecorder recorder) {
+        boolean micrometer = metricsCapability.map(capability -> capability.metricsSupported(MetricsFactory.MICROMETER))
+                .orElse(false);
+        if (config.metricsEnabled() && micrometer) {
+            double samplingRate = config.metricsSamplingRate();
+            if (samplingRate < 0 || samplingRate > 1) {
+                throw new IllegalStateException(("quarkus.groovy.hibernate-orm-panache.metrics-sampling-rate "
+                        + "must be between 0 and 1 but is %s").formatted(samplingRate));
+            }
+            recorder.enableQueryMetrics(samplingRate);
+        } else {
+            recorder.disableQueryMetrics();
+        }
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void initMetaClasses(CombinedIndexBuildItem index, List<PanacheEntityClassBuildItem> entityClasses,
+            PanacheHibernateOrmRecorder recorder) {
+        List<String> classNames = new ArrayList<>();
+        classNames.add(PanacheEntityBase.class.getName());
+        classNames.add(PanacheEntity.class.getName());
+        for (PanacheEntityClassBuildItem entityClass : entityClasses) {
+            classNames.add(entityClass.get().name().toString());
+        }
+        for (ClassInfo classInfo : index.getIndex().getAllKnownImplementations(DOTNAME_PANACHE_REPOSITORY_BASE)) {
+            if (!Modifier.isInterface(classInfo.flags())) {
+                classNames.add(classInfo.name().toString());
+            }
+        }
+        recorder.initMetaClasses(classNames);
+    }
+
+    @BuildStep
+    void collectLiteralFindQueries(ApplicationIndexBuildItem applicationIndex, CombinedIndexBuildItem index,
+            List<PanacheEntityClassBuildItem> entityClasses, BuildProducer<LiteralFindQueryBuildItem> literalFindQueries) {
+        IndexView view = index.getIndex();
+        Map<String, String> ownerToEntity = new HashMap<>();
+        for (PanacheEntityClassBuildItem entityClass : entityClasses) {
+            if (isEntity(view, entityClass.get().name())) {
+                String internalName = toInternalName(entityClass.get().name());
+                ownerToEntity.put(internalName, internalName);
+            }
+        }
+        for (ClassInfo classInfo : view.getAllKnownImplementations(DOTNAME_PANACHE_REPOSITORY_BASE)) {
+            if (Modifier.isAbstract(classInfo.flags())) {
+                continue;
+            }
+            Type entityType = JandexUtil.resolveTypeParameters(classInfo.name(), DOTNAME_PANACHE_REPOSITORY_BASE, view)
+                    .get(0);
+            if (entityType.kind() == Type.Kind.CLASS && isEntity(view, entityType.name())) {
+                ownerToEntity.put(toInternalName(classInfo.name()), toInternalName(entityType.name()));
+            }
+        }
+        if (ownerToEntity.isEmpty()) {
+            return;
+        }
+        LiteralFindQueryScanner scanner = new LiteralFindQueryScanner(ownerToEntity);
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        for (ClassInfo classInfo : applicationIndex.getIndex().getKnownClasses()) {
+            try (InputStream bytecode = classLoader.getResourceAsStream(toInternalName(classInfo.name()) + ".class")) {
+                if (bytecode != null) {
+                    scanner.scan(bytecode.readAllBytes(), literalFindQueries::produce);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @BuildStep
+    @Consume(ServiceStartBuildItem.class)
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void validateLiteralFindQueries(PanacheHibernateOrmBuildTimeConfig config, List<LiteralFindQueryBuildItem> items,
+            PanacheHibernateOrmRecorder recorder) {
+        if (items.isEmpty()) {
+            return;
+        }
+        Map<String, Map<String, Set<Integer>>> findQueries = new HashMap<>();
+        for (LiteralFindQueryBuildItem item : items) {
+            findQueries.computeIfAbsent(item.getEntityClass(), k -> new HashMap<>())
+                    .computeIfAbsent(item.getQuery(), k -> new HashSet<>()).add(item.getParamCount());
+        }
+        recorder.validateFindQueries(findQueries, config.failOnInvalidLiteralQuery());
+    }
+
+    @BuildStep
+    void enhanceProjectionConstructors(ApplicationIndexBuildItem applicationIndex,
+            BuildProducer<BytecodeTransformerBuildItem> transformers) {
+        IndexView view = applicationIndex.getIndex();
+        ProjectionClassScanner scanner = new ProjectionClassScanner();
+        Set<String> projectionClasses = new HashSet<>();
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        for (ClassInfo classInfo : view.getKnownClasses()) {
+            try (InputStream bytecode = classLoader.getResourceAsStream(toInternalName(classInfo.name()) + ".class")) {
+                if (bytecode != null) {
+                    scanner.scan(bytecode.readAllBytes(), projectionClasses::add);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        for (String projectionClass : projectionClasses) {
+            ClassInfo classInfo = view.getClassByName(projectionClass.replace('/', '.'));
+            if (classInfo == null || classInfo.hasDeclaredAnnotation(DOTNAME_ENTITY)) {
+                continue;
+            }
+            ProjectionConstructorEnhancer enhancer = ProjectionConstructorEnhancer.of(classInfo);
+            if (enhancer != null) {
+                transformers.produce(new BytecodeTransformerBuildItem(classInfo.name().toString(), enhancer));
+            }
+        }
+    }
+
+    private static boolean isEntity(IndexView index, DotName className) {
+        ClassInfo classInfo = index.getClassByName(className);
+        return classInfo != null && classInfo.hasDeclaredAnnotation(DOTNAME_ENTITY);
+    }
+
+    private static String toInternalName(DotName className) {
+        return className.toString().replace('.', '/');
+    }
+
     @BuildStep
     ValidationPhaseBuildItem.ValidationErrorBuildItem validate(ValidationPhaseBuildItem validationPhase,
             CombinedIndexBuildItem index) throws BuildException {
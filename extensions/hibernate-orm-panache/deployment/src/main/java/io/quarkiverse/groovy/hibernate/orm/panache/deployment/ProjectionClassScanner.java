@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.hibernate.orm.panache.deployment;
+
+import java.util.function.Consumer;
+
+import org.jboss.logging.Logger;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.InvokeDynamicInsnNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.analysis.Analyzer;
+import org.objectweb.asm.tree.analysis.AnalyzerException;
+import org.objectweb.asm.tree.analysis.Frame;
+import org.objectweb.asm.tree.analysis.SourceInterpreter;
+import org.objectweb.asm.tree.analysis.SourceValue;
+
+import io.quarkiverse.groovy.hibernate.orm.panache.PanacheQuery;
+
+/**
+ * {@code ProjectionClassScanner} finds in the bytecode of a class, the class literals passed to the method
+ * {@code project} of {@link PanacheQuery}.
+ * <p>
+ * Both the statically compiled method calls and the calls made through the Groovy dynamic dispatch are detected, but in
+ * the latter case, any method named {@code project} with a class literal as only argument is considered as the target
+ * cannot be known at build time.
+ */
+final class ProjectionClassScanner {
+
+    private static final Logger log = Logger.getLogger(ProjectionClassScanner.class);
+    private static final String PROJECT_METHOD_NAME = "project";
+    private static final String PANACHE_QUERY_INTERNAL_NAME = Type.getInternalName(PanacheQuery.class);
+    private static final String CLASS_DESCRIPTOR = Type.getDescriptor(Class.class);
+    private static final String INDY_INTERFACE_INTERNAL_NAME = "org/codehaus/groovy/vmplugin/v8/IndyInterface";
+
+    /**
+     * @param bytecode the bytecode of the class to scan.
+     * @param projectionClasses the consumer of the internal name of the projection classes found.
+     */
+    void scan(byte[] bytecode, Consumer<String> projectionClasses) {
+        ClassNode classNode = new ClassNode();
+        new ClassReader(bytecode).accept(classNode, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        for (MethodNode method : classNode.methods) {
+            if (hasProjectMethodCall(method)) {
+                scan(classNode.name, method, projectionClasses);
+            }
+        }
+    }
+
+    private void scan(String owner, MethodNode method, Consumer<String> projectionClasses) {
+        Frame<SourceValue>[] frames;
+        try {
+            frames = new Analyzer<>(new SourceInterpreter()).analyze(owner, method);
+        } catch (AnalyzerException e) {
+            log.debugf("The method %s of %s could not be analyzed: %s", method.name, owner, e.getMessage());
+            return;
+        }
+        for (int i = 0; i < method.instructions.size(); i++) {
+            AbstractInsnNode insn = method.instructions.get(i);
+            Frame<SourceValue> frame = frames[i];
+            if (frame == null || !isProjectMethodCall(insn)) {
+                continue;
+            }
+            SourceValue argument = frame.getStack(frame.getStackSize() - 1);
+            if (argument.insns.size() == 1 && argument.insns.iterator().next() instanceof LdcInsnNode ldc
+                    && ldc.cst instanceof Type type && type.getSort() == Type.OBJECT) {
+                projectionClasses.accept(type.getInternalName());
+            }
+        }
+    }
+
+    private boolean hasProjectMethodCall(MethodNode method) {
+        for (AbstractInsnNode insn : method.instructions) {
+            if (isProjectMethodCall(insn)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isProjectMethodCall(AbstractInsnNode insn) {
+        if (insn instanceof MethodInsnNode call) {
+            return PROJECT_METHOD_NAME.equals(call.name) && PANACHE_QUERY_INTERNAL_NAME.equals(call.owner)
+                    && call.desc.startsWith("(" + CLASS_DESCRIPTOR + ")");
+        } else if (insn instanceof InvokeDynamicInsnNode call) {
+            // The name of the method invoked dynamically is the first argument of the bootstrap method of Groovy
+            return INDY_INTERFACE_INTERNAL_NAME.equals(call.bsm.getOwner()) && call.bsmArgs.length > 0
+                    && PROJECT_METHOD_NAME.equals(call.bsmArgs[0])
+                    && Type.getArgumentTypes(call.desc).length == 2;
+        }
+        return false;
+    }
+}
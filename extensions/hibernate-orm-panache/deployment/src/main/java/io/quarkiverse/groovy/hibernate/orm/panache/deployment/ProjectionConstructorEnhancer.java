@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.hibernate.orm.panache.deployment;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.RecordComponentInfo;
+import org.jboss.jandex.Type;
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.MethodVisitor;
+
+import io.quarkus.gizmo.DescriptorUtils;
+import io.quarkus.gizmo.Gizmo;
+import io.quarkus.hibernate.orm.panache.common.ProjectedConstructor;
+import io.quarkus.hibernate.orm.panache.common.ProjectedFieldName;
+
+/**
+ * {@code ProjectionConstructorEnhancer} marks the canonical constructor of a Groovy record or the tuple constructor
+ * generated for a class annotated with {@code @TupleConstructor}, {@code @Immutable} or {@code @Canonical} as the
+ * constructor to use for projections, and adds to each of its parameters the name of the projected field. Only the
+ * classes passed as class literal to the method {@code project} of {@code PanacheQuery} are enhanced.
+ * <p>
+ * Indeed, unless the code is compiled with the parameter names, they are not available at runtime and when default
+ * values are enabled, Groovy generates additional constructors with fewer parameters that could be selected instead of
+ * the complete one.
+ */
+final class ProjectionConstructorEnhancer implements BiFunction<String, ClassVisitor, ClassVisitor> {
+
+    private static final DotName DOTNAME_GENERATED = DotName.createSimple("groovy.transform.Generated");
+    private static final DotName DOTNAME_PROJECTED_CONSTRUCTOR = DotName.createSimple(ProjectedConstructor.class.getName());
+    private static final DotName DOTNAME_PROJECTED_FIELD_NAME = DotName.createSimple(ProjectedFieldName.class.getName());
+    private static final DotName DOTNAME_MAP = DotName.createSimple(Map.class.getName());
+    private static final String PROJECTED_CONSTRUCTOR_DESCRIPTOR = DescriptorUtils.objectToDescriptor(ProjectedConstructor.class);
+    private static final String PROJECTED_FIELD_NAME_DESCRIPTOR = DescriptorUtils.objectToDescriptor(ProjectedFieldName.class);
+
+    /**
+     * The descriptor of the constructor to enhance.
+     */
+    private final String descriptor;
+    /**
+     * The name of the projected field of each parameter, {@code null} if the parameter is already annotated.
+     */
+    private final List<String> fieldNames;
+
+    private ProjectionConstructorEnhancer(String descriptor, List<String> fieldNames) {
+        this.descriptor = descriptor;
+        this.fieldNames = fieldNames;
+    }
+
+    /**
+     * @param classInfo the class for which an enhancer is expected.
+     * @return the enhancer to apply to the given class if it is a Groovy record or a class with a generated tuple
+     *         constructor whose parameters could be matched with the projected fields, {@code null} otherwise.
+     */
+    static ProjectionConstructorEnhancer of(ClassInfo classInfo) {
+        if (Modifier.isAbstract(classInfo.flags()) || Modifier.isInterface(classInfo.flags()) || classInfo.isEnum()
+                || classInfo.isAnnotation() || hasProjectedConstructor(classInfo)) {
+            return null;
+        }
+        MethodInfo constructor;
+        List<String> names;
+        if (classInfo.isRecord()) {
+            List<RecordComponentInfo> components = classInfo.unsortedRecordComponents();
+            List<Type> types = components.stream().map(RecordComponentInfo::type).toList();
+            constructor = classInfo.constructors().stream()
+                    .filter(method -> erasures(method.parameterTypes()).equals(erasures(types)))
+                    .findFirst().orElse(null);
+            names = components.stream().map(RecordComponentInfo::name).toList();
+        } else {
+            constructor = findTupleConstructor(classInfo);
+            names = constructor == null ? null : parameterNames(classInfo, constructor);
+        }
+        if (constructor == null || names == null) {
+            return null;
+        }
+        List<String> fieldNames = new ArrayList<>(names.size());
+        for (int i = 0; i < names.size(); i++) {
+            fieldNames.add(hasProjectedFieldName(constructor, i) ? null : projectedFieldName(classInfo, names.get(i)));
+        }
+        return new ProjectionConstructorEnhancer(descriptor(constructor), fieldNames);
+    }
+
+    @Override
+    public ClassVisitor apply(String className, ClassVisitor outputClassVisitor) {
+        return new ClassVisitor(Gizmo.ASM_API_VERSION, outputClassVisitor) {
+            @Override
+            public MethodVisitor visitMethod(int access, String name, String descriptor, String signature,
+                    String[] exceptions) {
+                MethodVisitor visitor = super.visitMethod(access, name, descriptor, signature, exceptions);
+                if ("<init>".equals(name) && ProjectionConstructorEnhancer.this.descriptor.equals(descriptor)) {
+                    visitor.visitAnnotation(PROJECTED_CONSTRUCTOR_DESCRIPTOR, true).visitEnd();
+                    for (int i = 0; i < fieldNames.size(); i++) {
+                        if (fieldNames.get(i) != null) {
+                            AnnotationVisitor annotation = visitor.visitParameterAnnotation(i,
+                                    PROJECTED_FIELD_NAME_DESCRIPTOR, true);
+                            annotation.visit("value", fieldNames.get(i));
+                            annotation.visitEnd();
+                        }
+                    }
+                }
+                return visitor;
+            }
+        };
+    }
+
+    /**
+     * @return the generated constructor with the largest number of parameters if it is unique and is not the map-based
+     *         constructor, {@code null} otherwise.
+     */
+    private static MethodInfo findTupleConstructor(ClassInfo classInfo) {
+        MethodInfo result = null;
+        boolean unique = false;
+        for (MethodInfo constructor : classInfo.constructors()) {
+            if (!constructor.hasDeclaredAnnotation(DOTNAME_GENERATED) || constructor.parametersCount() == 0
+                    || constructor.parametersCount() == 1 && constructor.parameterType(0).name().equals(DOTNAME_MAP)) {
+                continue;
+            }
+            if (result == null || constructor.parametersCount() > result.parametersCount()) {
+                result = constructor;
+                unique = true;
+            } else if (constructor.parametersCount() == result.parametersCount()) {
+                unique = false;
+            }
+        }
+        return unique ? result : null;
+    }
+
+    /**
+     * @return the names of the parameters of the given constructor if available, otherwise the names of the properties
+     *         of the class in declaration order if they match with the parameters, {@code null} otherwise.
+     */
+    private static List<String> parameterNames(ClassInfo classInfo, MethodInfo constructor) {
+        List<String> names = new ArrayList<>(constructor.parametersCount());
+        for (int i = 0; i < constructor.parametersCount(); i++) {
+            String name = constructor.parameterName(i);
+            if (name == null) {
+                names = null;
+                break;
+            }
+            names.add(name);
+        }
+        if (names != null) {
+            return names;
+        }
+        List<FieldInfo> fields = classInfo.unsortedFields().stream()
+                .filter(field -> !Modifier.isStatic(field.flags()) && !field.isSynthetic()
+                        && field.name().indexOf('$') == -1 && !"metaClass".equals(field.name()))
+                .toList();
+        if (!erasures(fields.stream().map(FieldInfo::type).toList()).equals(erasures(constructor.parameterTypes()))) {
+            return null;
+        }
+        return fields.stream().map(FieldInfo::name).toList();
+    }
+
+    /**
+     * @return the value of the {@link ProjectedFieldName} annotation of the given field if any, the name of the field
+     *         otherwise.
+     */
+    private static String projectedFieldName(ClassInfo classInfo, String name) {
+        FieldInfo field = classInfo.field(name);
+        if (field != null) {
+            AnnotationInstance annotation = field.annotation(DOTNAME_PROJECTED_FIELD_NAME);
+            if (annotation != null) {
+                return annotation.value().asString();
+            }
+        }
+        return name;
+    }
+
+    private static boolean hasProjectedConstructor(ClassInfo classInfo) {
+        return classInfo.constructors().stream()
+                .anyMatch(constructor -> constructor.hasDeclaredAnnotation(DOTNAME_PROJECTED_CONSTRUCTOR));
+    }
+
+    private static boolean hasProjectedFieldName(MethodInfo constructor, int position) {
+        for (AnnotationInstance annotation : constructor.annotations(DOTNAME_PROJECTED_FIELD_NAME)) {
+            if (annotation.target().kind() == AnnotationTarget.Kind.METHOD_PARAMETER
+                    && annotation.target().asMethodParameter().position() == position) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<String> erasures(List<Type> types) {
+        return types.stream().map(DescriptorUtils::typeToString).toList();
+    }
+
+    private static String descriptor(MethodInfo constructor) {
+        StringBuilder descriptor = new StringBuilder("(");
+        erasures(constructor.parameterTypes()).forEach(descriptor::append);
+        return descriptor.append(")V").toString();
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.hibernate.orm.panache;
+
+/**
+ * The second-level cache statistics of an entity. The statistics are only collected if enabled with the property
+ * {@code quarkus.hibernate-orm.statistics}.
+ *
+ * @param hitCount the number of times the entity has been found in the second-level cache.
+ * @param missCount the number of times the entity has been looked up in the second-level cache without being found.
+ * @param putCount the number of times the entity has been put in the second-level cache.
+ * @see Panache#getCacheStatistics(Class)
+ */
+public record CacheStatistics(long hitCount, long missCount, long putCount) {
+}
@@ -17,11 +17,13 @@
 package io.quarkiverse.groovy.hibernate.orm.panache;
 
 import java.util.Map;
+import java.util.function.Supplier;
 
 import jakarta.persistence.EntityManager;
 import jakarta.transaction.TransactionManager;
 
 import org.hibernate.Session;
+import org.hibernate.stat.EntityStatistics;
 
 import io.quarkiverse.groovy.hibernate.orm.panache.runtime.JpaOperations;
 import io.quarkus.hibernate.orm.panache.common.runtime.AbstractJpaOperations;
@@ -90,6 +92,53 @@ public class Panache {
         return JpaOperations.INSTANCE.getSession(persistenceUnit);
     }
 
+    /**
+     * Executes the given work with the default {@link Session} in read-only mode: the entities loaded during the work
+     * have no snapshot of their state kept in the persistence context and are skipped when the session is flushed, so
+     * their modifications are never persisted. The previous mode of the session is restored afterwards.
+     *
+     * @param work the work to execute.
+     * @return the result of the work.
+     */
+    public static <T> T withReadOnlySession(Supplier<T> work) {
+        return withReadOnlySession(getSession(), work);
+    }
+
+    /**
+     * Executes the given work with the {@link Session} of the given persistence unit in read-only mode.
+     *
+     * @param persistenceUnit the persistence unit of the session.
+     * @param work the work to execute.
+     * @return the result of the work.
+     * @see #withReadOnlySession(Supplier)
+     */
+    public static <T> T withReadOnlySession(String persistenceUnit, Supplier<T> work) {
+        return withReadOnlySession(getSession(persistenceUnit), work);
+    }
+
+    private static <T> T withReadOnlySession(Session session, Supplier<T> work) {
+        boolean defaultReadOnly = session.isDefaultReadOnly();
+        session.setDefaultReadOnly(true);
+        try {
+            return work.get();
+        } finally {
+            session.setDefaultReadOnly(defaultReadOnly);
+        }
+    }
+
+    /**
+     * Returns the second-level cache statistics of the given {@link Class<?> entity}
+     *
+     * @param clazz the entity class whose statistics are expected.
+     * @return the second-level cache statistics of the entity.
+     */
+    public static CacheStatistics getCacheStatistics(Class<?> clazz) {
+        EntityStatistics statistics = getSession(clazz).getSessionFactory().getStatistics()
+                .getEntityStatistics(clazz.getName());
+        return new CacheStatistics(statistics.getCacheHitCount(), statistics.getCacheMissCount(),
+                statistics.getCachePutCount());
+    }
+
     /**
      * Returns the current {@link TransactionManager}
      *
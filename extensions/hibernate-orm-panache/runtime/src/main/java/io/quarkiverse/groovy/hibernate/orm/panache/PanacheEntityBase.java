@@ -189,6 +189,33 @@ public abstract class PanacheEntityBase {
         throw implementationInjectionMissing();
     }
 
+    /**
+     * Find entities of this type by their IDs, by batches of IDs. The entities already in the persistence context or in
+     * the second-level cache are not loaded from the database.
+     *
+     * @param ids the IDs of the entities to find.
+     * @param batchSize the maximum amount of IDs to load from the database per query.
+     * @return a list containing the entities found, with null elements representing missing entities, with the list ordered by
+     *         the positions of their ids in the given list of identifiers.
+     */
+    @GenerateBridge
+    public static <T extends PanacheEntityBase> List<T> findByIds(List<?> ids, int batchSize) {
+        throw implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities of this type by their IDs, by batches of IDs. The entities already in the persistence context or in
+     * the second-level cache are not loaded from the database.
+     *
+     * @param ids the IDs of the entities to find.
+     * @param batchSize the maximum amount of IDs to load from the database per query.
+     * @return a map containing the entities found indexed by their IDs, missing entities have no entry.
+     */
+    @GenerateBridge
+    public static <T extends PanacheEntityBase> Map<Object, T> findByIdsAsMap(List<?> ids, int batchSize) {
+        throw implementationInjectionMissing();
+    }
+
     /**
      * Find entities using a query, with optional indexed parameters.
      *
@@ -837,4 +864,50 @@ public abstract class PanacheEntityBase {
     public static int update(String query, Parameters params) {
         throw implementationInjectionMissing();
     }
+
+    /**
+     * Update all entities of this type matching the given query, with optional indexed parameters, then evict the
+     * entities of this type from the persistence context so that the subsequent reads of the current unit of work
+     * see the updated state. The pending changes are flushed before the update.
+     *
+     * @param query a {@link io.quarkus.hibernate.orm.panache query string}
+     * @param params optional sequence of indexed parameters
+     * @return the number of entities updated.
+     * @see #updateAndEvict(String, Map)
+     * @see #updateAndEvict(String, Parameters)
+     */
+    @GenerateBridge
+    public static int updateAndEvict(String query, Object... params) {
+        throw implementationInjectionMissing();
+    }
+
+    /**
+     * Update all entities of this type matching the given query, with named parameters, then evict the entities of
+     * this type from the persistence context.
+     *
+     * @param query a {@link io.quarkus.hibernate.orm.panache query string}
+     * @param params {@link Map} of named parameters
+     * @return the number of entities updated.
+     * @see #updateAndEvict(String, Object...)
+     * @see #updateAndEvict(String, Parameters)
+     */
+    @GenerateBridge
+    public static int updateAndEvict(String query, Map<String, Object> params) {
+        throw implementationInjectionMissing();
+    }
+
+    /**
+     * Update all entities of this type matching the given query, with named parameters, then evict the entities of
+     * this type from the persistence context.
+     *
+     * @param query a {@link io.quarkus.hibernate.orm.panache query string}
+     * @param params {@link Parameters} of named parameters
+     * @return the number of entities updated.
+     * @see #updateAndEvict(String, Object...)
+     * @see #updateAndEvict(String, Map)
+     */
+    @GenerateBridge
+    public static int updateAndEvict(String query, Parameters params) {
+        throw implementationInjectionMissing();
+    }
 }
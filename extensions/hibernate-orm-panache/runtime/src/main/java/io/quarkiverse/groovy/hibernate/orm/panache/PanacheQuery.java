@@ -199,6 +199,41 @@ public interface PanacheQuery<Entity> {
      */
     <T extends Entity> PanacheQuery<T> withHint(String hintName, Object value);
 
+    /**
+     * Define the number of rows fetched from the database at a time by the JDBC driver for this query.
+     *
+     * @param fetchSize the number of rows to fetch per round trip.
+     * @return this query, modified
+     * @see #streamDetached(int)
+     */
+    <T extends Entity> PanacheQuery<T> withFetchSize(int fetchSize);
+
+    /**
+     * Loads the entities of this query in read-only mode: no snapshot of their state is kept in the persistence
+     * context and they are skipped when the session is flushed, so their modifications are never persisted.
+     *
+     * @return this query, modified
+     */
+    <T extends Entity> PanacheQuery<T> readOnly();
+
+    /**
+     * Stores the results of this query in the query cache, and reuses them as long as none of the tables involved
+     * have been modified. The entities of the results are read from the second-level cache if enabled for the entity.
+     *
+     * @return this query, modified
+     * @see #cacheRegion(String)
+     */
+    <T extends Entity> PanacheQuery<T> cacheable();
+
+    /**
+     * Stores the results of this query in the given region of the query cache.
+     *
+     * @param region the name of the query cache region to use.
+     * @return this query, modified
+     * @see #cacheable()
+     */
+    <T extends Entity> PanacheQuery<T> cacheRegion(String region);
+
     /**
      * <p>
      * Enables a Hibernate filter during fetching of results for this query. Your filter must be declared
@@ -277,6 +312,28 @@ public interface PanacheQuery<Entity> {
      */
     <T extends Entity> Stream<T> stream();
 
+    /**
+     * <p>
+     * Returns the current page of results as a {@link Stream} meant to go through a large number of entities with
+     * a constant memory footprint. The results are read through a forward-only cursor fetching {@code fetchSize}
+     * rows at a time, the entities are loaded in read-only mode and each entity is detached from the session as soon
+     * as the next one is read, with the entities loaded with it like its eager associations, the last one being
+     * detached when the stream is closed. The entities already managed by the session when the stream starts are
+     * never detached.
+     * </p>
+     * <p>
+     * It requires a transaction to work and the stream must be closed once consumed. The stream must be consumed
+     * sequentially without any intermediate operation buffering the entities (such as sorting) otherwise they could
+     * be detached before being used.
+     * </p>
+     *
+     * @param fetchSize the number of rows to fetch per round trip.
+     * @return the current page of results as a {@link Stream} of entities detached once consumed.
+     * @see #stream()
+     * @see #withFetchSize(int)
+     */
+    <T extends Entity> Stream<T> streamDetached(int fetchSize);
+
     /**
      * Returns the first result of the current page index. This ignores the current page size to fetch
      * a single result.
@@ -188,6 +188,33 @@ public interface PanacheRepositoryBase<Entity, Id> {
         throw INSTANCE.implementationInjectionMissing();
     }
 
+    /**
+     * Find entities of this type by their IDs, by batches of IDs. The entities already in the persistence context or in
+     * the second-level cache are not loaded from the database.
+     *
+     * @param ids the IDs of the entities to find.
+     * @param batchSize the maximum amount of IDs to load from the database per query.
+     * @return a list containing the entities found, with null elements representing missing entities, with the list ordered by
+     *         the positions of their ids in the given list of identifiers.
+     */
+    @GenerateBridge
+    default List<Entity> findByIds(List<Id> ids, int batchSize) {
+        throw INSTANCE.implementationInjectionMissing();
+    }
+
+    /**
+     * Find entities of this type by their IDs, by batches of IDs. The entities already in the persistence context or in
+     * the second-level cache are not loaded from the database.
+     *
+     * @param ids the IDs of the entities to find.
+     * @param batchSize the maximum amount of IDs to load from the database per query.
+     * @return a map containing the entities found indexed by their IDs, missing entities have no entry.
+     */
+    @GenerateBridge
+    default Map<Id, Entity> findByIdsAsMap(List<Id> ids, int batchSize) {
+        throw INSTANCE.implementationInjectionMissing();
+    }
+
     /**
      * Find entities using a query, with optional indexed parameters.
      *
@@ -831,4 +858,50 @@ public interface PanacheRepositoryBase<Entity, Id> {
     default int update(String query, Parameters params) {
         throw INSTANCE.implementationInjectionMissing();
     }
+
+    /**
+     * Update all entities of this type matching the given query, with optional indexed parameters, then evict the
+     * entities of this type from the persistence context so that the subsequent reads of the current unit of work
+     * see the updated state. The pending changes are flushed before the update.
+     *
+     * @param query a {@link io.quarkus.hibernate.orm.panache query string}
+     * @param params optional sequence of indexed parameters
+     * @return the number of entities updated.
+     * @see #updateAndEvict(String, Map)
+     * @see #updateAndEvict(String, Parameters)
+     */
+    @GenerateBridge
+    default int updateAndEvict(String query, Object... params) {
+        throw INSTANCE.implementationInjectionMissing();
+    }
+
+    /**
+     * Update all entities of this type matching the given query, with named parameters, then evict the entities of
+     * this type from the persistence context.
+     *
+     * @param query a {@link io.quarkus.hibernate.orm.panache query string}
+     * @param params {@link Map} of named parameters
+     * @return the number of entities updated.
+     * @see #updateAndEvict(String, Object...)
+     * @see #updateAndEvict(String, Parameters)
+     */
+    @GenerateBridge
+    default int updateAndEvict(String query, Map<String, Object> params) {
+        throw INSTANCE.implementationInjectionMissing();
+    }
+
+    /**
+     * Update all entities of this type matching the given query, with named parameters, then evict the entities of
+     * this type from the persistence context.
+     *
+     * @param query a {@link io.quarkus.hibernate.orm.panache query string}
+     * @param params {@link Parameters} of named parameters
+     * @return the number of entities updated.
+     * @see #updateAndEvict(String, Object...)
+     * @see #updateAndEvict(String, Map)
+     */
+    @GenerateBridge
+    default int updateAndEvict(String query, Parameters params) {
+        throw INSTANCE.implementationInjectionMissing();
+    }
 }
@@ -17,7 +17,6 @@
 
 package io.quarkiverse.groovy.hibernate.orm.panache.runtime;
 
-import static io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil.createFindQuery;
 import static io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil.toOrderBy;
 
 import java.util.Arrays;
@@ -48,7 +47,7 @@ public class AdditionalJpaOperations {
     @SuppressWarnings("rawtypes")
     public static PanacheQuery<?> find(AbstractManagedJpaOperations<?> jpaOperations, Class<?> entityClass, String query,
             String countQuery, Sort sort, Map<String, Object> params) {
-        String findQuery = createFindQuery(entityClass, query, jpaOperations.paramCount(params));
+        String findQuery = FindQueryCache.get(entityClass, query, jpaOperations.paramCount(params));
         Session session = jpaOperations.getSession(entityClass);
         SelectionQuery hibernateQuery = session.createSelectionQuery(sort != null ? findQuery + toOrderBy(sort) : findQuery);
         JpaOperations.bindParameters(hibernateQuery, params);
@@ -63,7 +62,7 @@ public class AdditionalJpaOperations {
     @SuppressWarnings("rawtypes")
     public static PanacheQuery<?> find(AbstractManagedJpaOperations<?> jpaOperations, Class<?> entityClass, String query,
             String countQuery, Sort sort, Object... params) {
-        String findQuery = createFindQuery(entityClass, query, jpaOperations.paramCount(params));
+        String findQuery = FindQueryCache.get(entityClass, query, jpaOperations.paramCount(params));
         Session session = jpaOperations.getSession(entityClass);
         SelectionQuery hibernateQuery = session.createSelectionQuery(sort != null ? findQuery + toOrderBy(sort) : findQuery);
         JpaOperations.bindParameters(hibernateQuery, params);
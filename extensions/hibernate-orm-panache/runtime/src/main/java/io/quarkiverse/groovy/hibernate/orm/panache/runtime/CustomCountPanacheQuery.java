@@ -33,6 +33,6 @@ public class CustomCountPanacheQuery<Entity> extends PanacheQueryImpl<Entity> {
             {
                 this.customCountQueryForSpring = customCountQuery;
             }
-        });
+        }, session);
     }
 }
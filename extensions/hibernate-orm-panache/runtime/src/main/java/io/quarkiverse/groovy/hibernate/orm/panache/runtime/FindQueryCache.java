@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.hibernate.orm.panache.runtime;
+
+import static io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil.createFindQuery;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code FindQueryCache} keeps the HQL queries expanded from the Panache shorthand queries to avoid expanding the same
+ * shorthand query again and again.
+ * <p>
+ * The expanded queries are stored per entity class using a {@link ClassValue} so that they are released with the
+ * entity class. Once an entity class has {@link #MAX_SIZE} expanded queries, the next ones are no longer cached.
+ * The {@code SelectionQuery} itself is not cached as Hibernate already keeps the interpretation of the HQL queries in
+ * its own query plan cache.
+ */
+public final class FindQueryCache {
+
+    /**
+     * The maximum number of expanded queries kept per entity class.
+     */
+    static final int MAX_SIZE = 512;
+
+    private static final ClassValue<Map<Key, String>> CACHE = new ClassValue<>() {
+        @Override
+        protected Map<Key, String> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+
+    private FindQueryCache() {
+    }
+
+    /**
+     * @param entityClass the entity class targeted by the query.
+     * @param query the Panache query to expand.
+     * @param paramCount the total amount of parameters of the query.
+     * @return the HQL query corresponding to the given Panache query.
+     */
+    static String get(Class<?> entityClass, String query, int paramCount) {
+        Map<Key, String> queries = CACHE.get(entityClass);
+        Key key = new Key(query, paramCount);
+        String findQuery = queries.get(key);
+        if (findQuery != null) {
+            HITS.increment();
+            return findQuery;
+        }
+        MISSES.increment();
+        findQuery = createFindQuery(entityClass, query, paramCount);
+        if (queries.size() < MAX_SIZE) {
+            queries.put(key, findQuery);
+        }
+        return findQuery;
+    }
+
+    /**
+     * @return the total amount of Panache queries whose expanded HQL query could be found in the cache.
+     */
+    public static long hitCount() {
+        return HITS.sum();
+    }
+
+    /**
+     * @return the total amount of Panache queries that had to be expanded.
+     */
+    public static long missCount() {
+        return MISSES.sum();
+    }
+
+    private record Key(String query, int paramCount) {
+    }
+}
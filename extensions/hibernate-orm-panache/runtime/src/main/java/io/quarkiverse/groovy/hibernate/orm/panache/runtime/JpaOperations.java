@@ -16,13 +16,25 @@
  */
 package io.quarkiverse.groovy.hibernate.orm.panache.runtime;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
+import org.hibernate.MultiIdentifierLoadAccess;
 import org.hibernate.Session;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
 
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableInstance;
+import io.quarkus.hibernate.orm.PersistenceUnit;
 import io.quarkus.hibernate.orm.panache.common.runtime.AbstractManagedJpaOperations;
+import io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil;
 import io.quarkus.panache.common.Parameters;
 import io.quarkus.panache.common.Sort;
 
@@ -32,6 +44,58 @@ public class JpaOperations extends AbstractManagedJpaOperations<PanacheQueryImpl
      */
     public static final JpaOperations INSTANCE = new JpaOperations();
 
+    /**
+     * The name of the cacheable entities whose find all queries must be cached.
+     */
+    private static volatile Set<String> cacheableEntities = Set.of();
+
+    /**
+     * The name of the persistence unit of the entities indexed by name of entity class.
+     */
+    private static volatile Map<String, String> entityToPersistenceUnit = Map.of();
+
+    /**
+     * The session beans resolved on first use indexed by entity class.
+     */
+    private static final Map<Class<?>, InjectableInstance<Session>> sessions = new ConcurrentHashMap<>();
+
+    static void setCacheableEntities(Set<String> entityClassNames) {
+        cacheableEntities = Set.copyOf(entityClassNames);
+    }
+
+    static void addEntityTypesToPersistenceUnit(Map<String, String> map) {
+        Map<String, String> result = new HashMap<>(entityToPersistenceUnit);
+        result.putAll(map);
+        entityToPersistenceUnit = Map.copyOf(result);
+        // The session beans resolved by a previous start in dev mode belong to a stopped container
+        sessions.clear();
+    }
+
+    /**
+     * Resolves the persistence unit of the given entity class and its session bean only once, so that the static
+     * methods of the entities and the methods of the repositories do not look them up for each call.
+     */
+    @Override
+    public Session getSession(Class<?> clazz) {
+        InjectableInstance<Session> session = sessions.get(clazz);
+        if (session == null) {
+            String persistenceUnit = entityToPersistenceUnit.get(clazz.getName());
+            if (persistenceUnit == null) {
+                // Let the default implementation deal with the entities whose persistence unit is unknown
+                return super.getSession(clazz);
+            }
+            session = sessions.computeIfAbsent(clazz, c -> sessionInstance(persistenceUnit));
+        }
+        return session.get();
+    }
+
+    private static InjectableInstance<Session> sessionInstance(String persistenceUnit) {
+        if (PersistenceUnitUtil.isDefaultPersistenceUnit(persistenceUnit)) {
+            return Arc.container().select(Session.class);
+        }
+        return Arc.container().select(Session.class, new PersistenceUnit.PersistenceUnitLiteral(persistenceUnit));
+    }
+
     @Override
     protected PanacheQueryImpl<?> createPanacheQuery(Session session, Class<?> entityClass, String query,
             String originalQuery,
@@ -40,6 +104,49 @@ public class JpaOperations extends AbstractManagedJpaOperations<PanacheQueryImpl
         return new PanacheQueryImpl<>(session, entityClass, query, originalQuery, sort, paramsArrayOrMap);
     }
 
+    @Override
+    public PanacheQueryImpl<?> findAll(Class<?> entityClass) {
+        return cacheableIfNeeded(entityClass, super.findAll(entityClass));
+    }
+
+    @Override
+    public PanacheQueryImpl<?> findAll(Class<?> entityClass, Sort sort) {
+        return cacheableIfNeeded(entityClass, super.findAll(entityClass, sort));
+    }
+
+    private static PanacheQueryImpl<?> cacheableIfNeeded(Class<?> entityClass, PanacheQueryImpl<?> query) {
+        if (cacheableEntities.contains(entityClass.getName())) {
+            query.cacheable();
+        }
+        return query;
+    }
+
+    @Override
+    public PanacheQueryImpl<?> find(Class<?> entityClass, String query, Sort sort, Object... params) {
+        if (isShorthandOrHqlQuery(query)) {
+            String findQuery = FindQueryCache.get(entityClass, query, paramCount(params));
+            return createPanacheQuery(getSession(entityClass), entityClass, findQuery, query, sort, params);
+        }
+        return super.find(entityClass, query, sort, params);
+    }
+
+    @Override
+    public PanacheQueryImpl<?> find(Class<?> entityClass, String query, Sort sort, Map<String, Object> params) {
+        if (isShorthandOrHqlQuery(query)) {
+            String findQuery = FindQueryCache.get(entityClass, query, paramCount(params));
+            return createPanacheQuery(getSession(entityClass), entityClass, findQuery, query, sort, params);
+        }
+        return super.find(entityClass, query, sort, params);
+    }
+
+    /**
+     * @param query the query to test.
+     * @return {@code true} if the given query is neither empty nor a named query, {@code false} otherwise.
+     */
+    private static boolean isShorthandOrHqlQuery(String query) {
+        return query != null && !query.isEmpty() && query.charAt(0) != '#';
+    }
+
     @Override
     public List<?> list(PanacheQueryImpl<?> query) {
         return query.list();
@@ -50,6 +157,183 @@ public class JpaOperations extends AbstractManagedJpaOperations<PanacheQueryImpl
         return query.stream();
     }
 
+    /**
+     * Finds the entities of the given type by their IDs, by batches of {@code batchSize} IDs, skipping the entities
+     * already in the persistence context or in the second-level cache.
+     *
+     * @return the entities found in the same order as their IDs, with {@code null} for the missing entities.
+     */
+    public List<?> findByIds(Class<?> entityClass, List<?> ids, int batchSize) {
+        return multiLoadAccess(getSession(entityClass), entityClass, batchSize)
+                .enableOrderedReturn(true)
+                .multiLoad(ids);
+    }
+
+    /**
+     * Finds the entities of the given type by their IDs, by batches of {@code batchSize} IDs, skipping the entities
+     * already in the persistence context or in the second-level cache.
+     *
+     * @return the entities found indexed by their IDs.
+     */
+    public Map<Object, ?> findByIdsAsMap(Class<?> entityClass, List<?> ids, int batchSize) {
+        Session session = getSession(entityClass);
+        // No need to reorder the results as they are indexed by ID
+        List<?> entities = multiLoadAccess(session, entityClass, batchSize)
+                .enableOrderedReturn(false)
+                .multiLoad(ids);
+        Map<Object, Object> result = new LinkedHashMap<>();
+        for (Object entity : entities) {
+            if (entity != null) {
+                result.put(session.getIdentifier(entity), entity);
+            }
+        }
+        return result;
+    }
+
+    private static MultiIdentifierLoadAccess<?> multiLoadAccess(Session session, Class<?> entityClass, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be greater than 0: " + batchSize);
+        }
+        return session.byMultipleIds(entityClass)
+                .withBatchSize(batchSize)
+                .enableSessionCheck(true);
+    }
+
+    public int updateAndEvict(Class<?> entityClass, String query, Object... params) {
+        Session session = flushedSession(entityClass);
+        int result = update(entityClass, query, params);
+        evictManagedEntities(session, entityClass);
+        return result;
+    }
+
+    public int updateAndEvict(Class<?> entityClass, String query, Map<String, Object> params) {
+        Session session = flushedSession(entityClass);
+        int result = update(entityClass, query, params);
+        evictManagedEntities(session, entityClass);
+        return result;
+    }
+
+    public int updateAndEvict(Class<?> entityClass, String query, Parameters params) {
+        return updateAndEvict(entityClass, query, params.map());
+    }
+
+    private Session flushedSession(Class<?> entityClass) {
+        Session session = getSession(entityClass);
+        // The pending changes of the entities about to be evicted would be lost otherwise
+        session.flush();
+        return session;
+    }
+
+    /**
+     * Evicts the entities of the given type and its subtypes from the persistence context, leaving the other
+     * entities managed.
+     */
+    private static void evictManagedEntities(Session session, Class<?> entityClass) {
+        List<Object> entities = new ArrayList<>();
+        for (Map.Entry<Object, EntityEntry> entry : session.unwrap(SessionImplementor.class)
+                .getPersistenceContextInternal().reentrantSafeEntityEntries()) {
+            if (entityClass.isInstance(entry.getKey())) {
+                entities.add(entry.getKey());
+            }
+        }
+        entities.forEach(session::detach);
+    }
+
+    @Override
+    public long count(Class<?> entityClass) {
+        long start = QueryMetrics.start();
+        try {
+            return super.count(entityClass);
+        } finally {
+            QueryMetrics.record(start, entityClass, "count", null, -1);
+        }
+    }
+
+    @Override
+    public long count(Class<?> entityClass, String query, Object... params) {
+        long start = QueryMetrics.start();
+        try {
+            return super.count(entityClass, query, params);
+        } finally {
+            QueryMetrics.record(start, entityClass, "count", query, -1);
+        }
+    }
+
+    @Override
+    public long count(Class<?> entityClass, String query, Map<String, Object> params) {
+        long start = QueryMetrics.start();
+        try {
+            return super.count(entityClass, query, params);
+        } finally {
+            QueryMetrics.record(start, entityClass, "count", query, -1);
+        }
+    }
+
+    @Override
+    public int update(Class<?> entityClass, String query, Object... params) {
+        long start = QueryMetrics.start();
+        long rows = -1;
+        try {
+            int result = super.update(entityClass, query, params);
+            rows = result;
+            return result;
+        } finally {
+            QueryMetrics.record(start, entityClass, "update", query, rows);
+        }
+    }
+
+    @Override
+    public int update(Class<?> entityClass, String query, Map<String, Object> params) {
+        long start = QueryMetrics.start();
+        long rows = -1;
+        try {
+            int result = super.update(entityClass, query, params);
+            rows = result;
+            return result;
+        } finally {
+            QueryMetrics.record(start, entityClass, "update", query, rows);
+        }
+    }
+
+    @Override
+    public long delete(Class<?> entityClass, String query, Object... params) {
+        long start = QueryMetrics.start();
+        long rows = -1;
+        try {
+            long result = super.delete(entityClass, query, params);
+            rows = result;
+            return result;
+        } finally {
+            QueryMetrics.record(start, entityClass, "delete", query, rows);
+        }
+    }
+
+    @Override
+    public long delete(Class<?> entityClass, String query, Map<String, Object> params) {
+        long start = QueryMetrics.start();
+        long rows = -1;
+        try {
+            long result = super.delete(entityClass, query, params);
+            rows = result;
+            return result;
+        } finally {
+            QueryMetrics.record(start, entityClass, "delete", query, rows);
+        }
+    }
+
+    @Override
+    public long deleteAll(Class<?> entityClass) {
+        long start = QueryMetrics.start();
+        long rows = -1;
+        try {
+            long result = super.deleteAll(entityClass);
+            rows = result;
+            return result;
+        } finally {
+            QueryMetrics.record(start, entityClass, "delete", null, rows);
+        }
+    }
+
     // Avoid method call clashing with delete(Entity) by renaming the delete methods to deleteByQuery
     public long deleteByQuery(Class<?> entityClass, String query, Object... params) {
         return delete(entityClass, query, params);
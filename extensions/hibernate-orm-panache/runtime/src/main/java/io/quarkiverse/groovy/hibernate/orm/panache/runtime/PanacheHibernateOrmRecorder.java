@@ -16,14 +16,119 @@
  */
 package io.quarkiverse.groovy.hibernate.orm.panache.runtime;
 
+import static io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil.createFindQuery;
+
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.Session;
+import org.jboss.logging.Logger;
 
+import groovy.lang.GroovySystem;
+import groovy.lang.MetaClassRegistry;
+import io.quarkiverse.groovy.runtime.panache.MicrometerQueryMetrics;
 import io.quarkus.hibernate.orm.panache.common.runtime.AbstractJpaOperations;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
 public class PanacheHibernateOrmRecorder {
+
+    private static final Logger LOG = Logger.getLogger(PanacheHibernateOrmRecorder.class);
+
     public void addEntityTypesToPersistenceUnit(Map<String, String> entityToPersistenceUnit, boolean incomplete) {
         AbstractJpaOperations.addEntityTypesToPersistenceUnit(entityToPersistenceUnit, incomplete);
+        JpaOperations.addEntityTypesToPersistenceUnit(entityToPersistenceUnit);
+    }
+
+    /**
+     * @param entityClassNames the name of the cacheable entities whose find all queries must be cached.
+     */
+    public void setCacheableEntities(Set<String> entityClassNames) {
+        JpaOperations.setCacheableEntities(entityClassNames);
+    }
+
+    /**
+     * Enables the Micrometer metrics of the Panache operations.
+     *
+     * @param samplingRate the ratio of operations to record between {@code 0} and {@code 1}.
+     */
+    public void enableQueryMetrics(double samplingRate) {
+        QueryMetrics.enable(MicrometerQueryMetrics.create(), samplingRate);
+    }
+
+    /**
+     * Disables the query metrics, that may have been enabled by the previous application on reload.
+     */
+    public void disableQueryMetrics() {
+        QueryMetrics.disable();
+    }
+
+    /**
+     * Creates and initializes the meta classes of the given classes to prevent threads serving requests, especially
+     * virtual threads, from being pinned by the synchronized initialization of the meta classes done on first use.
+     *
+     * @param classNames the name of the classes whose meta class must be initialized.
+     */
+    public void initMetaClasses(List<String> classNames) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        MetaClassRegistry registry = GroovySystem.getMetaClassRegistry();
+        for (String className : classNames) {
+            try {
+                registry.getMetaClass(Class.forName(className, false, classLoader));
+            } catch (ClassNotFoundException | LinkageError e) {
+                LOG.debugf("The meta class of %s could not be initialized: %s", className, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Expands and validates the given literal find queries in order to fail fast in case of an invalid query and to
+     * have the HQL queries already in the caches when they are executed for the first time. The shorthand queries whose
+     * amount of parameters is unknown are skipped as they cannot be expanded.
+     *
+     * @param findQueries the literal find queries with all the total amounts of indexed parameters with which they are
+     *        called ({@code -1} if unknown), indexed by name of the target entity class.
+     * @param failOnInvalidQuery whether an invalid query must make the application fail to start.
+     */
+    public void validateFindQueries(Map<String, Map<String, Set<Integer>>> findQueries, boolean failOnInvalidQuery) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        for (Map.Entry<String, Map<String, Set<Integer>>> entry : findQueries.entrySet()) {
+            Class<?> entityClass;
+            try {
+                entityClass = Class.forName(entry.getKey(), false, classLoader);
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException("The entity class " + entry.getKey() + " could not be found", e);
+            }
+            try (Session session = JpaOperations.INSTANCE.getSession(entityClass).getSessionFactory().openSession()) {
+                for (Map.Entry<String, Set<Integer>> query : entry.getValue().entrySet()) {
+                    for (int paramCount : query.getValue()) {
+                        String findQuery;
+                        if (paramCount < 0) {
+                            findQuery = createFindQuery(entityClass, query.getKey(), 0);
+                            if (!findQuery.equals(createFindQuery(entityClass, query.getKey(), 1))) {
+                                // The expansion of a shorthand query depends on the unknown amount of parameters
+                                LOG.debugf("The query '%s' of the entity %s is skipped as its amount of parameters is "
+                                        + "unknown", query.getKey(), entry.getKey());
+                                continue;
+                            }
+                        } else {
+                            findQuery = FindQueryCache.get(entityClass, query.getKey(), paramCount);
+                        }
+                        try {
+                            // Creating the query is enough to have it parsed and validated against the metamodel
+                            session.createSelectionQuery(findQuery);
+                        } catch (RuntimeException e) {
+                            String message = String.format("The query '%s' of the entity %s is invalid: %s",
+                                    query.getKey(), entry.getKey(), e.getMessage());
+                            if (failOnInvalidQuery) {
+                                throw new IllegalStateException(message, e);
+                            }
+                            LOG.warn(message);
+                        }
+                    }
+                }
+            }
+        }
     }
 }
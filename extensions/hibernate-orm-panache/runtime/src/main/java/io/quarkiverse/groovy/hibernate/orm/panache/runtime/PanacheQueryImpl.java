@@ -16,15 +16,23 @@
  */
 package io.quarkiverse.groovy.hibernate.orm.panache.runtime;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
 import jakarta.persistence.LockModeType;
 
-import org.hibernate.SharedSessionContract;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.jpa.HibernateHints;
 
 import io.quarkiverse.groovy.hibernate.orm.panache.PanacheQuery;
 import io.quarkus.hibernate.orm.panache.common.runtime.CommonPanacheQueryImpl;
@@ -35,21 +43,33 @@ import io.quarkus.panache.common.Sort;
 public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
 
     private final CommonPanacheQueryImpl<Entity> delegate;
+    private final Session session;
+    private final Class<?> entityClass;
+    private final String originalQuery;
 
-    PanacheQueryImpl(SharedSessionContract session, Class<?> entityClass, String query, String originalQuery, Sort sort,
+    PanacheQueryImpl(Session session, Class<?> entityClass, String query, String originalQuery, Sort sort,
             Object paramsArrayOrMap) {
-        this.delegate = new CommonPanacheQueryImpl<>(session, entityClass, query, originalQuery, sort, paramsArrayOrMap);
+        this(new CommonPanacheQueryImpl<>(session, entityClass, query, originalQuery, sort, paramsArrayOrMap), session,
+                entityClass, originalQuery);
     }
 
-    protected PanacheQueryImpl(CommonPanacheQueryImpl<Entity> delegate) {
+    protected PanacheQueryImpl(CommonPanacheQueryImpl<Entity> delegate, Session session) {
+        this(delegate, session, null, null);
+    }
+
+    private PanacheQueryImpl(CommonPanacheQueryImpl<Entity> delegate, Session session, Class<?> entityClass,
+            String originalQuery) {
         this.delegate = delegate;
+        this.session = session;
+        this.entityClass = entityClass;
+        this.originalQuery = originalQuery;
     }
 
     // Builder
 
     @Override
     public <T> PanacheQuery<T> project(Class<T> type) {
-        return new PanacheQueryImpl<>(delegate.project(type));
+        return new PanacheQueryImpl<>(delegate.project(type), session, entityClass, originalQuery);
     }
 
     @Override
@@ -135,6 +155,35 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         return (PanacheQuery<T>) this;
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Entity> PanacheQuery<T> withFetchSize(int fetchSize) {
+        delegate.withHint(HibernateHints.HINT_FETCH_SIZE, fetchSize);
+        return (PanacheQuery<T>) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Entity> PanacheQuery<T> readOnly() {
+        delegate.withHint(HibernateHints.HINT_READ_ONLY, true);
+        return (PanacheQuery<T>) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Entity> PanacheQuery<T> cacheable() {
+        delegate.withHint(HibernateHints.HINT_CACHEABLE, true);
+        return (PanacheQuery<T>) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Entity> PanacheQuery<T> cacheRegion(String region) {
+        cacheable();
+        delegate.withHint(HibernateHints.HINT_CACHE_REGION, region);
+        return (PanacheQuery<T>) this;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T extends Entity> PanacheQuery<T> filter(String filterName, Parameters parameters) {
@@ -160,12 +209,25 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
 
     @Override
     public long count() {
-        return delegate.count();
+        long start = QueryMetrics.start();
+        try {
+            return delegate.count();
+        } finally {
+            QueryMetrics.record(start, entityClass, "count", originalQuery, -1);
+        }
     }
 
     @Override
     public <T extends Entity> List<T> list() {
-        return delegate.list();
+        long start = QueryMetrics.start();
+        long rows = -1;
+        try {
+            List<T> list = delegate.list();
+            rows = list.size();
+            return list;
+        } finally {
+            QueryMetrics.record(start, entityClass, "list", originalQuery, rows);
+        }
     }
 
     @Override
@@ -173,23 +235,139 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         return delegate.stream();
     }
 
+    @Override
+    public <T extends Entity> Stream<T> streamDetached(int fetchSize) {
+        withFetchSize(fetchSize);
+        // Read-only entities have no snapshot kept in the persistence context
+        readOnly();
+        // The result stream is backed by a forward-only cursor
+        Stream<T> stream = delegate.stream();
+        DetachPrevious<T> detachPrevious = new DetachPrevious<>(session.unwrap(SessionImplementor.class));
+        return stream.map(detachPrevious).onClose(detachPrevious);
+    }
+
     @Override
     public <T extends Entity> T firstResult() {
-        return delegate.firstResult();
+        long start = QueryMetrics.start();
+        long rows = -1;
+        try {
+            T result = delegate.firstResult();
+            rows = result == null ? 0 : 1;
+            return result;
+        } finally {
+            QueryMetrics.record(start, entityClass, "firstResult", originalQuery, rows);
+        }
     }
 
     @Override
     public <T extends Entity> Optional<T> firstResultOptional() {
-        return delegate.firstResultOptional();
+        long start = QueryMetrics.start();
+        long rows = -1;
+        try {
+            Optional<T> result = delegate.firstResultOptional();
+            rows = result.isPresent() ? 1 : 0;
+            return result;
+        } finally {
+            QueryMetrics.record(start, entityClass, "firstResult", originalQuery, rows);
+        }
     }
 
     @Override
     public <T extends Entity> T singleResult() {
-        return delegate.singleResult();
+        long start = QueryMetrics.start();
+        long rows = -1;
+        try {
+            T result = delegate.singleResult();
+            rows = 1;
+            return result;
+        } finally {
+            QueryMetrics.record(start, entityClass, "singleResult", originalQuery, rows);
+        }
     }
 
     @Override
     public <T extends Entity> Optional<T> singleResultOptional() {
-        return delegate.singleResultOptional();
+        long start = QueryMetrics.start();
+        long rows = -1;
+        try {
+            Optional<T> result = delegate.singleResultOptional();
+            rows = result.isPresent() ? 1 : 0;
+            return result;
+        } finally {
+            QueryMetrics.record(start, entityClass, "singleResult", originalQuery, rows);
+        }
+    }
+
+    /**
+     * Detaches the entities loaded by the stream each time a new result is read, that is the previous result and the
+     * entities loaded with it like its eager associations, and the last ones on close. The entities already managed
+     * when the stream started are never detached, since their pending changes would be lost.
+     */
+    private static final class DetachPrevious<T> implements UnaryOperator<T>, Runnable {
+
+        private final SessionImplementor session;
+        /**
+         * The entities managed by the session before the stream started.
+         */
+        private final Set<Object> managed = Collections.newSetFromMap(new IdentityHashMap<>());
+        /**
+         * The entities loaded with the previous result.
+         */
+        private List<Object> loaded = List.of();
+
+        DetachPrevious(SessionImplementor session) {
+            this.session = session;
+            for (Map.Entry<Object, EntityEntry> entry : session.getPersistenceContextInternal()
+                    .reentrantSafeEntityEntries()) {
+                managed.add(entry.getKey());
+            }
+        }
+
+        @Override
+        public T apply(T current) {
+            PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+            detach(persistenceContext);
+            loaded = getLoaded(current, persistenceContext);
+            return current;
+        }
+
+        @Override
+        public void run() {
+            if (session.isOpen()) {
+                detach(session.getPersistenceContextInternal());
+            }
+            loaded = List.of();
+        }
+
+        private void detach(PersistenceContext persistenceContext) {
+            for (Object entity : loaded) {
+                if (persistenceContext.getEntry(entity) != null) {
+                    session.detach(entity);
+                }
+            }
+        }
+
+        /**
+         * @return the entities loaded by the stream that are still managed, knowing that the entities loaded with the
+         *         previous result have been detached.
+         */
+        private List<Object> getLoaded(T current, PersistenceContext persistenceContext) {
+            int count = persistenceContext.getNumberOfManagedEntities();
+            if (count == managed.size()) {
+                // Not an entity like a projection, or an entity managed before the stream started
+                return List.of();
+            } else if (count == managed.size() + 1 && current != null && !managed.contains(current)
+                    && persistenceContext.getEntry(current) != null) {
+                // No other entity loaded, like an eager association
+                return List.of(current);
+            }
+            List<Object> entities = new ArrayList<>(count - managed.size());
+            for (Map.Entry<Object, EntityEntry> entry : persistenceContext.reentrantSafeEntityEntries()) {
+                if (!managed.contains(entry.getKey())) {
+                    entities.add(entry.getKey());
+                }
+            }
+            return entities;
+        }
     }
 }
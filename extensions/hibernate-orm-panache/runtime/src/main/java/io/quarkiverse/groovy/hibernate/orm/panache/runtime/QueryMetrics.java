@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.hibernate.orm.panache.runtime;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import io.quarkiverse.groovy.runtime.panache.MicrometerQueryMetrics;
+
+/**
+ * Records the duration and the amount of rows of a sample of the Panache operations when the query metrics are
+ * enabled. This class does not depend on Micrometer so that it can be used whether Micrometer is available or not.
+ */
+final class QueryMetrics {
+
+    /**
+     * The start time of the operations that are not sampled, knowing that {@link System#nanoTime()} can be negative.
+     */
+    private static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+    private static volatile MicrometerQueryMetrics metrics;
+    private static volatile double samplingRate;
+
+    private QueryMetrics() {
+    }
+
+    static void enable(MicrometerQueryMetrics queryMetrics, double rate) {
+        samplingRate = rate;
+        metrics = queryMetrics;
+    }
+
+    /**
+     * Stops recording the operations, the metrics being kept otherwise by the next application on reload.
+     */
+    static void disable() {
+        metrics = null;
+    }
+
+    /**
+     * @return the start time in nanoseconds of the operation if it is sampled, {@link #NOT_SAMPLED} otherwise.
+     */
+    static long start() {
+        if (metrics == null || samplingRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= samplingRate) {
+            return NOT_SAMPLED;
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Records the given operation if it has been sampled.
+     *
+     * @param start the value returned by {@link #start()} when the operation started.
+     * @param rows the amount of rows read or written by the operation, {@code -1} if not applicable or if the operation
+     *        failed.
+     */
+    static void record(long start, Class<?> entityClass, String operation, String query, long rows) {
+        MicrometerQueryMetrics queryMetrics = metrics;
+        if (start != NOT_SAMPLED && queryMetrics != null) {
+            queryMetrics.record(System.nanoTime() - start, entityClass, operation, query, rows);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.hibernate.reactive.panache.deployment;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Build time configuration of the Groovy Hibernate Reactive with Panache extension.
+ */
+@ConfigMapping(prefix = "quarkus.groovy.hibernate-reactive-panache")
+@ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+public interface PanacheHibernateReactiveBuildTimeConfig {
+
+    /**
+     * Whether the duration and the amount of rows of the find, list, count, update and delete operations of the
+     * Panache entities and repositories are recorded into Micrometer meters tagged with the entity class, the operation
+     * and the shape of the query. Only applies if the Micrometer extension is present.
+     */
+    @WithDefault("false")
+    boolean metricsEnabled();
+
+    /**
+     * The ratio of the Panache operations to record when the metrics are enabled, from {@code 0} for none to
+     * {@code 1} for all of them.
+     */
+    @WithDefault("1.0")
+    double metricsSamplingRate();
+}
@@ -53,6 +53,7 @@ import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
 import io.quarkus.deployment.util.JandexUtil;
 import io.quarkus.hibernate.orm.deployment.JpaModelPersistenceUnitMappingBuildItem;
 import io.quarkus.hibernate.orm.deployment.spi.AdditionalJpaModelBuildItem;
@@ -60,6 +61,7 @@ import io.quarkus.panache.common.deployment.PanacheMethodCustomizer;
 import io.quarkus.panache.common.deployment.PanacheMethodCustomizerBuildItem;
 import io.quarkus.panache.hibernate.common.deployment.HibernateEnhancersRegisteredBuildItem;
 import io.quarkus.panache.hibernate.common.deployment.PanacheJpaEntityOperationsEnhancer;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.smallrye.common.annotation.CheckReturnValue;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
@@ -179,6 +181,24 @@ public final class PanacheHibernateResourceProcessor {
         recorder.addEntityTypesToPersistenceUnit(map);
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void enableQueryMetrics(PanacheHibernateReactiveBuildTimeConfig config,
+            Optional<MetricsCapabilityBuildItem> metricsCapability, PanacheHibernateReactiveRecorder recorder) {
+        boolean micrometer = metricsCapability.map(capability -> capability.metricsSupported(MetricsFactory.MICROMETER))
+                .orElse(false);
+        if (config.metricsEnabled() && micrometer) {
+            double samplingRate = config.metricsSamplingRate();
+            if (samplingRate < 0 || samplingRate > 1) {
+                throw new IllegalStateException(("quarkus.groovy.hibernate-reactive-panache.metrics-sampling-rate "
+                        + "must be between 0 and 1 but is %s").formatted(samplingRate));
+            }
+            recorder.enableQueryMetrics(samplingRate);
+        } else {
+            recorder.disableQueryMetrics();
+        }
+    }
+
     @BuildStep
     ValidationPhaseBuildItem.ValidationErrorBuildItem validate(ValidationPhaseBuildItem validationPhase,
             CombinedIndexBuildItem index) throws BuildException {
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.hibernate.reactive.panache;
+
+import java.util.List;
+
+import io.quarkus.panache.common.Page;
+
+/**
+ * A page of results of a query with the total number of results of the query.
+ *
+ * @param list the results of the page.
+ * @param page the page.
+ * @param count the total number of results of the query.
+ * @param <Entity> The type of the results
+ * @see PanacheQuery#listAndCount()
+ */
+public record PagedResults<Entity>(List<Entity> list, Page page, long count) {
+
+    /**
+     * @return the total number of pages of the query using the size of the page.
+     */
+    public int pageCount() {
+        // A single page of zero results
+        return count == 0 ? 1 : (int) Math.ceil((double) count / (double) page.size);
+    }
+
+    /**
+     * @return {@code true} if there is another page to read after this one, {@code false} otherwise.
+     */
+    public boolean hasNextPage() {
+        return page.index < pageCount() - 1;
+    }
+}
@@ -18,12 +18,14 @@ package io.quarkiverse.groovy.hibernate.reactive.panache;
 
 import static io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME;
 
+import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
 
 import org.hibernate.reactive.mutiny.Mutiny;
 
 import io.quarkiverse.groovy.hibernate.reactive.panache.runtime.JpaOperations;
+import io.quarkiverse.groovy.hibernate.reactive.panache.runtime.ParallelOperations;
 import io.quarkus.hibernate.reactive.panache.common.runtime.SessionOperations;
 import io.quarkus.panache.common.Parameters;
 import io.smallrye.mutiny.Uni;
@@ -54,6 +56,99 @@ public class Panache {
         return SessionOperations.withSession(persistenceUnitName, s -> uniSupplier.get());
     }
 
+    /**
+     * <p>
+     * Runs the given units of work concurrently, each of them within the scope of its own reactive session of the
+     * default persistence unit, and thus with its own connection. At most as many units of work as the maximum size of
+     * the connection pool of the datasource of the default persistence unit are run at the same time.
+     * </p>
+     * <p>
+     * The units of work are meant to be independent read operations, they are not part of the current transaction if
+     * any and must not exchange entities as each entity is bound to the session that loaded it.
+     * </p>
+     *
+     * @param works the units of work to run.
+     * @return the results of the units of work in the same order as the units of work.
+     */
+    @SafeVarargs
+    public static Uni<List<Object>> parallel(Supplier<? extends Uni<?>>... works) {
+        return parallel(DEFAULT_PERSISTENCE_UNIT_NAME, List.of(works));
+    }
+
+    /**
+     * Runs the given units of work concurrently, each of them within the scope of its own reactive session of the
+     * given persistence unit, and thus with its own connection. At most as many units of work as the maximum size of
+     * the connection pool of the datasource of the persistence unit are run at the same time.
+     *
+     * @param persistenceUnitName the persistence unit of the sessions to open.
+     * @param works the units of work to run.
+     * @return the results of the units of work in the same order as the units of work.
+     * @see #parallel(Supplier[])
+     */
+    public static Uni<List<Object>> parallel(String persistenceUnitName,
+            List<? extends Supplier<? extends Uni<?>>> works) {
+        int maxConcurrency = Math.max(1, Math.min(works.size(), ParallelOperations.poolMaxSize(persistenceUnitName)));
+        return parallel(persistenceUnitName, maxConcurrency, works);
+    }
+
+    /**
+     * Runs the given units of work concurrently, each of them within the scope of its own reactive session of the
+     * default persistence unit, and thus with its own connection.
+     *
+     * @param maxConcurrency the maximum number of units of work to run at the same time.
+     * @param works the units of work to run.
+     * @return the results of the units of work in the same order as the units of work.
+     * @see #parallel(Supplier[])
+     */
+    @SafeVarargs
+    public static Uni<List<Object>> parallel(int maxConcurrency, Supplier<? extends Uni<?>>... works) {
+        return parallel(DEFAULT_PERSISTENCE_UNIT_NAME, maxConcurrency, List.of(works));
+    }
+
+    /**
+     * Runs the given units of work concurrently, each of them within the scope of its own reactive session of the
+     * given persistence unit, and thus with its own connection.
+     *
+     * @param persistenceUnitName the persistence unit of the sessions to open.
+     * @param maxConcurrency the maximum number of units of work to run at the same time.
+     * @param works the units of work to run.
+     * @return the results of the units of work in the same order as the units of work.
+     * @see #parallel(Supplier[])
+     */
+    public static Uni<List<Object>> parallel(String persistenceUnitName, int maxConcurrency,
+            List<? extends Supplier<? extends Uni<?>>> works) {
+        return ParallelOperations.parallel(persistenceUnitName, maxConcurrency, works);
+    }
+
+    /**
+     * Obtains a {@link Uni} within the scope of a reactive session of the default persistence unit in read-only mode:
+     * the entities loaded during the work have no snapshot of their state kept in the persistence context and are
+     * skipped when the session is flushed, so their modifications are never persisted. If a reactive session exists
+     * then it is reused and its previous mode is restored once the provided {@link Uni} completes.
+     *
+     * @return a new {@link Uni}
+     * @see #withSession(Supplier)
+     */
+    public static <T> Uni<T> withReadOnlySession(Supplier<Uni<T>> uniSupplier) {
+        return withReadOnlySession(DEFAULT_PERSISTENCE_UNIT_NAME, uniSupplier);
+    }
+
+    /**
+     * Obtains a {@link Uni} within the scope of a reactive session of the given persistence unit in read-only mode.
+     *
+     * @return a new {@link Uni}
+     * @see #withReadOnlySession(Supplier)
+     */
+    public static <T> Uni<T> withReadOnlySession(String persistenceUnitName, Supplier<Uni<T>> uniSupplier) {
+        return SessionOperations.withSession(persistenceUnitName, session -> {
+            boolean defaultReadOnly = session.isDefaultReadOnly();
+            session.setDefaultReadOnly(true);
+            return uniSupplier.get().eventually(() -> {
+                session.setDefaultReadOnly(defaultReadOnly);
+            });
+        });
+    }
+
     /**
      * Returns the current {@link Mutiny.Session}
      *
@@ -31,6 +31,7 @@ import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Parameters;
 import io.quarkus.panache.common.exception.PanacheQueryException;
 import io.smallrye.common.annotation.CheckReturnValue;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
 /**
@@ -202,6 +203,14 @@ public interface PanacheQuery<Entity> {
      */
     <T extends Entity> PanacheQuery<T> withHint(String hintName, Object value);
 
+    /**
+     * Loads the entities of this query in read-only mode: no snapshot of their state is kept in the persistence
+     * context and they are skipped when the session is flushed, so their modifications are never persisted.
+     *
+     * @return this query, modified
+     */
+    <T extends Entity> PanacheQuery<T> readOnly();
+
     /**
      * <p>
      * Enables a Hibernate filter during fetching of results for this query. Your filter must be declared
@@ -271,6 +280,36 @@ public interface PanacheQuery<Entity> {
     @CheckReturnValue
     <T extends Entity> Uni<List<T>> list();
 
+    /**
+     * Returns the current page of results with the total number of entities this query operates on. The total number
+     * of entities is read and cached first, then the current page of results is read using the same session.
+     *
+     * @return the current page of results with the total number of entities this query operates on.
+     * @throws UnsupportedOperationException if a page hasn't been set or if a range is already set
+     * @see #list()
+     * @see #count()
+     */
+    @CheckReturnValue
+    <T extends Entity> Uni<PagedResults<T>> listAndCount();
+
+    /**
+     * <p>
+     * Returns all the results of this query as a {@link Multi}, fetched by chunks of {@code chunkSize} results. A chunk
+     * is only fetched once the results of the previous one have been requested, so that a large number of results can
+     * be processed with a bounded memory footprint.
+     * </p>
+     * <p>
+     * The chunks are fetched using the paging of this query which is thus modified, consequently the query should be
+     * sorted on a unique key to get consistent chunks.
+     * </p>
+     *
+     * @param chunkSize the maximum number of results to fetch at a time.
+     * @return all the results of this query as a {@link Multi}.
+     * @see #list()
+     */
+    @CheckReturnValue
+    <T extends Entity> Multi<T> stream(int chunkSize);
+
     /**
      * Returns the first result of the current page index. This ignores the current page size to fetch
      * a single result.
@@ -31,6 +31,7 @@ import io.quarkus.panache.common.Parameters;
 import io.quarkus.panache.common.Sort;
 import io.quarkus.panache.common.impl.GenerateBridge;
 import io.smallrye.common.annotation.CheckReturnValue;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
 /**
@@ -412,6 +413,22 @@ public interface PanacheRepositoryBase<Entity, Id> {
         throw implementationInjectionMissing();
     }
 
+    /**
+     * Find all entities of this type, in the given order, fetched by chunks of {@code chunkSize} entities on demand.
+     * This method is a shortcut for <code>findAll(sort).stream(chunkSize)</code>.
+     *
+     * @param sort the sort order to use, preferably on a unique key to get consistent chunks
+     * @param chunkSize the maximum number of entities to fetch at a time
+     * @return a {@link Multi} containing all results
+     * @see #listAll(Sort)
+     * @see #findAll(Sort)
+     * @see PanacheQuery#stream(int)
+     */
+    @CheckReturnValue
+    default Multi<Entity> streamAll(Sort sort, int chunkSize) {
+        return findAll(sort).stream(chunkSize);
+    }
+
     /**
      * Counts the number of this type of entity in the database.
      *
@@ -599,6 +616,28 @@ public interface PanacheRepositoryBase<Entity, Id> {
         return INSTANCE.persist(firstEntity, entities);
     }
 
+    /**
+     * <p>
+     * Persist all entities emitted by the given {@link Multi} by batches of {@code batchSize} entities. Each batch is
+     * flushed then the session is cleared before requesting the entities of the next batch, so that the session never
+     * holds more than one batch of entities.
+     * </p>
+     * <p>
+     * WARNING: as the session is cleared after each batch, the entities managed by the session before calling this
+     * method are detached.
+     * </p>
+     *
+     * @param entities the entities to persist
+     * @param batchSize the maximum number of entities to flush at a time
+     * @return the statistics of the operation
+     * @see #persist(Iterable)
+     */
+    @CheckReturnValue
+    @GenerateBridge
+    default Uni<PersistStatistics> persistInBatches(Multi<Entity> entities, int batchSize) {
+        throw implementationInjectionMissing();
+    }
+
     /**
      * Update all entities of this type matching the given query, with optional indexed parameters.
      *
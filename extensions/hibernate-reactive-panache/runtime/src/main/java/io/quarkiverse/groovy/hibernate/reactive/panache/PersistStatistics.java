@@ -0,0 +1,30 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.hibernate.reactive.panache;
+
+import java.time.Duration;
+
+/**
+ * The outcome of a persist operation done in batches.
+ *
+ * @param entityCount the total number of entities persisted.
+ * @param batchCount the total number of batches flushed.
+ * @param duration the time spent to persist all the entities.
+ * @see PanacheRepositoryBase#persistInBatches(io.smallrye.mutiny.Multi, int)
+ */
+public record PersistStatistics(long entityCount, int batchCount, Duration duration) {
+}
@@ -16,15 +16,20 @@
  */
 package io.quarkiverse.groovy.hibernate.reactive.panache.runtime;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
 import org.hibernate.reactive.mutiny.Mutiny;
 
+import io.quarkiverse.groovy.hibernate.reactive.panache.PersistStatistics;
 import io.quarkus.hibernate.reactive.panache.common.runtime.AbstractManagedJpaOperations;
 import io.quarkus.panache.common.Parameters;
 import io.quarkus.panache.common.Sort;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
 
 public class JpaOperations extends AbstractManagedJpaOperations<PanacheQueryImpl<?>> {
 
@@ -44,6 +49,75 @@ public class JpaOperations extends AbstractManagedJpaOperations<PanacheQueryImpl
         return (Uni) query.list();
     }
 
+    public Uni<PersistStatistics> persistInBatches(Class<?> entityClass, Multi<?> entities, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be greater than 0: " + batchSize);
+        }
+        return getSession(entityClass).chain(session -> {
+            long start = System.nanoTime();
+            // The session can only be used from the Vert.x context on which it has been created
+            Context context = Vertx.currentContext();
+            Multi<?> items = context == null ? entities
+                    : entities.emitOn(command -> context.runOnContext(ignored -> command.run()));
+            return items.group().intoLists().of(batchSize)
+                    // A session cannot be used concurrently so the batches are persisted one after the other
+                    .onItem().transformToUniAndConcatenate(batch -> session.persistAll(batch.toArray())
+                            .chain(session::flush)
+                            .invoke(session::clear)
+                            .replaceWith(batch.size()))
+                    .collect().in(() -> new long[2], (counts, size) -> {
+                        counts[0] += size;
+                        counts[1]++;
+                    })
+                    .map(counts -> new PersistStatistics(counts[0], (int) counts[1],
+                            Duration.ofNanos(System.nanoTime() - start)));
+        });
+    }
+
+    @Override
+    public Uni<Long> count(Class<?> entityClass) {
+        return QueryMetrics.record(super.count(entityClass), entityClass, "count", null, null);
+    }
+
+    @Override
+    public Uni<Long> count(Class<?> entityClass, String query, Object... params) {
+        return QueryMetrics.record(super.count(entityClass, query, params), entityClass, "count", query, null);
+    }
+
+    @Override
+    public Uni<Long> count(Class<?> entityClass, String query, Map<String, Object> params) {
+        return QueryMetrics.record(super.count(entityClass, query, params), entityClass, "count", query, null);
+    }
+
+    @Override
+    public Uni<Integer> update(Class<?> entityClass, String query, Object... params) {
+        return QueryMetrics.record(super.update(entityClass, query, params), entityClass, "update", query,
+                Integer::longValue);
+    }
+
+    @Override
+    public Uni<Integer> update(Class<?> entityClass, String query, Map<String, Object> params) {
+        return QueryMetrics.record(super.update(entityClass, query, params), entityClass, "update", query,
+                Integer::longValue);
+    }
+
+    @Override
+    public Uni<Long> delete(Class<?> entityClass, String query, Object... params) {
+        return QueryMetrics.record(super.delete(entityClass, query, params), entityClass, "delete", query,
+                Long::longValue);
+    }
+
+    @Override
+    public Uni<Long> delete(Class<?> entityClass, String query, Map<String, Object> params) {
+        return QueryMetrics.record(super.delete(entityClass, query, params), entityClass, "delete", query,
+                Long::longValue);
+    }
+
+    @Override
+    public Uni<Long> deleteAll(Class<?> entityClass) {
+        return QueryMetrics.record(super.deleteAll(entityClass), entityClass, "delete", null, Long::longValue);
+    }
+
     // Avoid method call clashing with delete(Entity) by renaming the delete methods to deleteByQuery
     public Uni<Long> deleteByQuery(Class<?> entityClass, String query, Object... params) {
         return delete(entityClass, query, params);
@@ -19,6 +19,7 @@ package io.quarkiverse.groovy.hibernate.reactive.panache.runtime;
 
 import java.util.Map;
 
+import io.quarkiverse.groovy.runtime.panache.MicrometerQueryMetrics;
 import io.quarkus.hibernate.reactive.panache.common.runtime.AbstractJpaOperations;
 import io.quarkus.runtime.annotations.Recorder;
 
@@ -27,4 +28,20 @@ public class PanacheHibernateReactiveRecorder {
     public void addEntityTypesToPersistenceUnit(Map<String, String> entityToPersistenceUnit) {
         AbstractJpaOperations.addEntityTypesToPersistenceUnit(entityToPersistenceUnit);
     }
+
+    /**
+     * Enables the Micrometer metrics of the Panache operations.
+     *
+     * @param samplingRate the ratio of operations to record between {@code 0} and {@code 1}.
+     */
+    public void enableQueryMetrics(double samplingRate) {
+        QueryMetrics.enable(MicrometerQueryMetrics.create(), samplingRate);
+    }
+
+    /**
+     * Disables the query metrics, that may have been enabled by the previous application on reload.
+     */
+    public void disableQueryMetrics() {
+        QueryMetrics.disable();
+    }
 }
@@ -19,37 +19,55 @@ package io.quarkiverse.groovy.hibernate.reactive.panache.runtime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import jakarta.persistence.LockModeType;
 
+import org.hibernate.jpa.HibernateHints;
 import org.hibernate.reactive.mutiny.Mutiny;
 
+import io.quarkiverse.groovy.hibernate.reactive.panache.PagedResults;
 import io.quarkiverse.groovy.hibernate.reactive.panache.PanacheQuery;
 import io.quarkus.hibernate.reactive.panache.common.runtime.CommonManagedPanacheQueryImpl;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Parameters;
 import io.quarkus.panache.common.Sort;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
 public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
 
     private final CommonManagedPanacheQueryImpl<Entity> delegate;
+    private final Class<?> entityClass;
+    private final String originalQuery;
+    /**
+     * The total number of entities this query operates on once read, as it only depends on the query, its parameters
+     * and its filters.
+     */
+    private Long count;
 
     PanacheQueryImpl(Uni<Mutiny.Session> em, Class<?> entityClass, String query, String originalQuery, Sort sort,
             Object paramsArrayOrMap) {
-        this.delegate = new CommonManagedPanacheQueryImpl<>(em, entityClass, query, originalQuery, sort,
-                paramsArrayOrMap);
+        this(new CommonManagedPanacheQueryImpl<>(em, entityClass, query, originalQuery, sort, paramsArrayOrMap),
+                entityClass, originalQuery);
     }
 
     protected PanacheQueryImpl(CommonManagedPanacheQueryImpl<Entity> delegate) {
+        this(delegate, null, null);
+    }
+
+    private PanacheQueryImpl(CommonManagedPanacheQueryImpl<Entity> delegate, Class<?> entityClass,
+            String originalQuery) {
         this.delegate = delegate;
+        this.entityClass = entityClass;
+        this.originalQuery = originalQuery;
     }
 
     // Builder
 
     @Override
     public <T> PanacheQuery<T> project(Class<T> type) {
-        return new PanacheQueryImpl<>(delegate.project(type));
+        return new PanacheQueryImpl<>(delegate.project(type), entityClass, originalQuery);
     }
 
     @Override
@@ -90,12 +108,17 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
     @SuppressWarnings("unchecked")
     @Override
     public <T extends Entity> Uni<PanacheQuery<T>> lastPage() {
-        return delegate.lastPage().map(v -> (PanacheQuery<T>) this);
+        Page page = delegate.page();
+        return pageCount().map(pageCount -> {
+            delegate.page(page.index(pageCount - 1));
+            return (PanacheQuery<T>) this;
+        });
     }
 
     @Override
     public Uni<Boolean> hasNextPage() {
-        return delegate.hasNextPage();
+        Page page = delegate.page();
+        return pageCount().map(pageCount -> page.index < pageCount - 1);
     }
 
     @Override
@@ -105,7 +128,11 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
 
     @Override
     public Uni<Integer> pageCount() {
-        return delegate.pageCount();
+        Page page = delegate.page();
+        return count().map(count -> {
+            // A single page of zero results
+            return count == 0 ? 1 : (int) Math.ceil((double) count / (double) page.size);
+        });
     }
 
     @Override
@@ -134,10 +161,18 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         return (PanacheQuery<T>) this;
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Entity> PanacheQuery<T> readOnly() {
+        delegate.withHint(HibernateHints.HINT_READ_ONLY, true);
+        return (PanacheQuery<T>) this;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T extends Entity> PanacheQuery<T> filter(String filterName, Parameters parameters) {
         delegate.filter(filterName, parameters.map());
+        count = null;
         return (PanacheQuery<T>) this;
     }
 
@@ -145,6 +180,7 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
     @Override
     public <T extends Entity> PanacheQuery<T> filter(String filterName, Map<String, Object> parameters) {
         delegate.filter(filterName, parameters);
+        count = null;
         return (PanacheQuery<T>) this;
     }
 
@@ -152,6 +188,7 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
     @Override
     public <T extends Entity> PanacheQuery<T> filter(String filterName) {
         delegate.filter(filterName, Collections.emptyMap());
+        count = null;
         return (PanacheQuery<T>) this;
     }
 
@@ -159,21 +196,47 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
 
     @Override
     public Uni<Long> count() {
-        return delegate.count();
+        if (count != null) {
+            return Uni.createFrom().item(count);
+        }
+        return QueryMetrics.record(delegate.count(), entityClass, "count", originalQuery, null)
+                .invoke(result -> count = result);
     }
 
     @Override
     public <T extends Entity> Uni<List<T>> list() {
-        return delegate.list();
+        return QueryMetrics.record(delegate.list(), entityClass, "list", originalQuery, List::size);
+    }
+
+    @Override
+    public <T extends Entity> Multi<T> stream(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("The chunk size must be greater than 0: " + chunkSize);
+        }
+        // Each chunk is fetched on demand, the last chunk is the first one that is not full
+        return Multi.createBy().repeating()
+                .uni(AtomicInteger::new, pageIndex -> {
+                    delegate.page(pageIndex.getAndIncrement(), chunkSize);
+                    return delegate.<T> list();
+                })
+                .whilst(chunk -> chunk.size() == chunkSize)
+                .onItem().disjoint();
+    }
+
+    @Override
+    public <T extends Entity> Uni<PagedResults<T>> listAndCount() {
+        Page page = delegate.page();
+        return count().flatMap(count -> this.<T> list().map(list -> new PagedResults<>(list, page, count)));
     }
 
     @Override
     public <T extends Entity> Uni<T> firstResult() {
-        return delegate.firstResult();
+        return QueryMetrics.record(delegate.firstResult(), entityClass, "firstResult", originalQuery,
+                result -> result == null ? 0 : 1);
     }
 
     @Override
     public <T extends Entity> Uni<T> singleResult() {
-        return delegate.singleResult();
+        return QueryMetrics.record(delegate.singleResult(), entityClass, "singleResult", originalQuery, result -> 1);
     }
 }
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.hibernate.reactive.panache.runtime;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.ConfigProvider;
+
+import io.quarkus.datasource.common.runtime.DataSourceUtil;
+import io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil;
+import io.quarkus.hibernate.reactive.panache.common.runtime.SessionOperations;
+import io.quarkus.vertx.core.runtime.context.VertxContextSafetyToggle;
+import io.smallrye.common.vertx.VertxContext;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+/**
+ * {@code ParallelOperations} runs independent units of work concurrently, each of them with its own reactive session
+ * and thus its own connection.
+ * <p>
+ * A reactive session is bound to the Vert.x duplicated context on which it has been opened, so each unit of work is
+ * executed on a new duplicated context in which a new session is opened and closed once the work completes.
+ */
+public final class ParallelOperations {
+
+    /**
+     * The default maximum size of the connection pool of a reactive datasource.
+     */
+    private static final int DEFAULT_POOL_MAX_SIZE = 20;
+
+    private ParallelOperations() {
+    }
+
+    /**
+     * @param persistenceUnitName the persistence unit of the sessions to open.
+     * @param maxConcurrency the maximum number of units of work to run at the same time.
+     * @param works the units of work to run.
+     * @return the results of the units of work in the same order as the units of work.
+     */
+    public static Uni<List<Object>> parallel(String persistenceUnitName, int maxConcurrency,
+            List<? extends Supplier<? extends Uni<?>>> works) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("The maximum concurrency must be greater than 0: " + maxConcurrency);
+        }
+        Context context = Vertx.currentContext();
+        if (context == null) {
+            throw new IllegalStateException("No current Vert.x context found");
+        }
+        Object[] results = new Object[works.size()];
+        return Multi.createFrom().range(0, works.size())
+                .onItem().transformToUni(index -> withNewSession(context, persistenceUnitName, works.get(index))
+                        .invoke(result -> results[index] = result))
+                .merge(maxConcurrency)
+                .collect().last()
+                // Resume on the context of the caller as the results are emitted on the contexts of the units of work
+                .emitOn(command -> context.runOnContext(ignored -> command.run()))
+                .map(ignored -> Arrays.asList(results));
+    }
+
+    /**
+     * @param persistenceUnitName the name of the persistence unit.
+     * @return the maximum size of the connection pool of the datasource of the given persistence unit.
+     */
+    public static int poolMaxSize(String persistenceUnitName) {
+        Config config = ConfigProvider.getConfig();
+        String dataSourceKey = PersistenceUnitUtil.isDefaultPersistenceUnit(persistenceUnitName)
+                ? "quarkus.hibernate-orm.datasource"
+                : "quarkus.hibernate-orm.\"%s\".datasource".formatted(persistenceUnitName);
+        String dataSourceName = config.getOptionalValue(dataSourceKey, String.class)
+                .orElse(DataSourceUtil.DEFAULT_DATASOURCE_NAME);
+        String maxSizeKey = DataSourceUtil.isDefault(dataSourceName)
+                ? "quarkus.datasource.reactive.max-size"
+                : "quarkus.datasource.\"%s\".reactive.max-size".formatted(dataSourceName);
+        return config.getOptionalValue(maxSizeKey, Integer.class).orElse(DEFAULT_POOL_MAX_SIZE);
+    }
+
+    private static Uni<Object> withNewSession(Context parent, String persistenceUnitName,
+            Supplier<? extends Uni<?>> work) {
+        return Uni.createFrom().emitter(emitter -> {
+            Context context = VertxContext.createNewDuplicatedContext(parent);
+            // The sessions can only be opened on a duplicated context marked as safe
+            VertxContextSafetyToggle.setContextSafe(context, true);
+            context.runOnContext(ignored -> SessionOperations
+                    .withSession(persistenceUnitName, session -> work.get().map(Object.class::cast))
+                    .subscribe().with(emitter::complete, emitter::fail));
+        });
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.hibernate.reactive.panache.runtime;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToLongFunction;
+
+import io.quarkiverse.groovy.runtime.panache.MicrometerQueryMetrics;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Records the duration and the amount of rows of a sample of the Panache operations when the query metrics are
+ * enabled. This class does not depend on Micrometer so that it can be used whether Micrometer is available or not.
+ */
+final class QueryMetrics {
+
+    private static volatile MicrometerQueryMetrics metrics;
+    private static volatile double samplingRate;
+
+    private QueryMetrics() {
+    }
+
+    static void enable(MicrometerQueryMetrics queryMetrics, double rate) {
+        samplingRate = rate;
+        metrics = queryMetrics;
+    }
+
+    /**
+     * Stops recording the operations, the metrics being kept otherwise by the next application on reload.
+     */
+    static void disable() {
+        metrics = null;
+    }
+
+    /**
+     * Records the operation performed by the given {@link Uni} if it is sampled, from its subscription to its result or
+     * its failure.
+     *
+     * @param rows the function providing the amount of rows read or written by the operation from its result,
+     *        {@code null} if not applicable.
+     * @return the {@link Uni} to use in place of the given one.
+     */
+    static <T> Uni<T> record(Uni<T> uni, Class<?> entityClass, String operation, String query, ToLongFunction<T> rows) {
+        if (metrics == null) {
+            return uni;
+        }
+        return Uni.createFrom().deferred(() -> {
+            if (samplingRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= samplingRate) {
+                return uni;
+            }
+            long start = System.nanoTime();
+            return uni.onItemOrFailure().invoke((result, failure) -> {
+                MicrometerQueryMetrics queryMetrics = metrics;
+                if (queryMetrics != null) {
+                    queryMetrics.record(System.nanoTime() - start, entityClass, operation, query,
+                            rows == null || failure != null ? -1 : rows.applyAsLong(result));
+                }
+            });
+        });
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.jackson.deployment;
+
+import org.jboss.jandex.ClassInfo;
+
+import io.quarkiverse.groovy.deployment.GroovyUtil;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.FeatureBuildItem;
+
+class GroovyJacksonProcessor {
+
+    @BuildStep
+    FeatureBuildItem featureBuildItem() {
+        return new FeatureBuildItem("groovy-jackson");
+    }
+
+    @BuildStep
+    void transform(CombinedIndexBuildItem index, BuildProducer<BytecodeTransformerBuildItem> transformers) {
+        GroovyJacksonEnhancer enhancer = new GroovyJacksonEnhancer();
+        // The method getMetaClass is only generated in the classes that directly implement GroovyObject
+        for (ClassInfo classInfo : index.getIndex().getKnownDirectImplementors(GroovyUtil.DOTNAME_GROOVY_OBJECT)) {
+            String className = classInfo.name().toString();
+            if (!classInfo.isInterface() && !GroovyUtil.isGroovyClass(className)) {
+                transformers.produce(new BytecodeTransformerBuildItem(className, enhancer));
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.jaxb.deployment;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Build time configuration of the Groovy JAXB extension.
+ */
+@ConfigMapping(prefix = "quarkus.groovy.jaxb")
+@ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+public interface GroovyJAXBBuildTimeConfig {
+
+    /**
+     * Whether the JAXB context bound to the classes to be bound is created on startup rather than on first use, in
+     * order to avoid the cost of the introspection of the classes on the first request that reads or writes XML
+     * content.
+     */
+    @WithDefault("true")
+    boolean createContextOnStartup();
+}
@@ -19,7 +19,9 @@ package io.quarkiverse.groovy.jaxb.deployment;
 import jakarta.xml.bind.annotation.XmlTransient;
 
 import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
 
 import io.quarkiverse.groovy.deployment.GroovyUtil;
 import io.quarkus.gizmo.Gizmo;
@@ -32,6 +34,16 @@ class GroovyJAXBClassVisitor extends ClassVisitor {
         super(Gizmo.ASM_API_VERSION, outputClassVisitor);
     }
 
+    @Override
+    public FieldVisitor visitField(int access, String name, String descriptor, String signature, Object value) {
+        FieldVisitor fieldVisitor = super.visitField(access, name, descriptor, signature, value);
+        // The static fields like $staticClassInfo and __$stMC are never bound by JAXB
+        if ((access & Opcodes.ACC_STATIC) == 0 && GroovyUtil.isMetaClassField(name, descriptor)) {
+            fieldVisitor.visitAnnotation(ANNOTATION_TYPE_NAME, true).visitEnd();
+        }
+        return fieldVisitor;
+    }
+
     @Override
     public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
         MethodVisitor methodVisitor = super.visitMethod(access, name, descriptor, signature, exceptions);
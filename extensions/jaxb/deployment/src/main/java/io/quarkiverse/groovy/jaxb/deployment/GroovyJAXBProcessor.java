@@ -17,19 +17,32 @@ package io.quarkiverse.groovy.jaxb.deployment;
  * limitations under the License.
  */
 import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.annotation.XmlSeeAlso;
+
+import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
 import org.jboss.jandex.FieldInfo;
 import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.Type;
 import org.jboss.logging.Logger;
 
 import io.quarkiverse.groovy.deployment.GroovyUtil;
+import io.quarkiverse.groovy.jaxb.runtime.GroovyJAXBRecorder;
+import io.quarkus.arc.deployment.BeanContainerBuildItem;
+import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
@@ -39,6 +52,8 @@ class GroovyJAXBProcessor {
 
     private static final Logger log = Logger.getLogger(GroovyJAXBProcessor.class);
 
+    private static final DotName DOTNAME_XML_SEE_ALSO = DotName.createSimple(XmlSeeAlso.class.getName());
+
     @BuildStep
     FeatureBuildItem featureBuildItem() {
         return new FeatureBuildItem("groovy-jaxb");
@@ -49,13 +64,30 @@ class GroovyJAXBProcessor {
             BuildProducer<BytecodeTransformerBuildItem> transformers,
             List<JaxbClassesToBeBoundBuildItem> jaxbClasses) {
         IndexView view = index.getIndex();
-        Set<String> classesToTransform = new HashSet<>();
-        Set<String> classesProcessed = new HashSet<>();
+        // Shared by all the classes to be bound so that each class of the type graph is visited only once
+        Set<DotName> classesVisited = new HashSet<>();
+        Deque<DotName> classesToVisit = new ArrayDeque<>();
         for (JaxbClassesToBeBoundBuildItem item : jaxbClasses) {
             for (String className : item.getClasses()) {
-                addClassesToTransform(view, className, classesToTransform, classesProcessed);
+                DotName name = DotName.createSimple(className);
+                if (addClassToVisit(name, classesVisited, classesToVisit) && view.getClassByName(name) == null) {
+                    log.warnf("The class %s could not be found in the index", className);
+                }
             }
         }
+        Set<String> classesToTransform = new HashSet<>();
+        while (!classesToVisit.isEmpty()) {
+            ClassInfo classInfo = view.getClassByName(classesToVisit.poll());
+            if (classInfo == null) {
+                continue;
+            }
+            if (GroovyUtil.isGroovyObject(classInfo)) {
+                classesToTransform.add(classInfo.name().toString());
+            }
+            addReferencedClassesToVisit(classInfo, classesVisited, classesToVisit);
+        }
+        log.debugf("%d Groovy classes out of %d visited classes enhanced for JAXB", classesToTransform.size(),
+                classesVisited.size());
         if (classesToTransform.isEmpty()) {
             return;
         }
@@ -63,39 +95,97 @@ class GroovyJAXBProcessor {
         classesToTransform.forEach(name -> transformers.produce(new BytecodeTransformerBuildItem(name, enhancer)));
     }
 
-    private void addClassesToTransform(IndexView view, String className, Set<String> classesToTransform,
-            Set<String> classesProcessed) {
-        if (classesProcessed.add(className) && !GroovyUtil.isGroovyClass(className) && !isJDKClass(className)) {
-            ClassInfo classInfo = view.getClassByName(className);
-            if (classInfo == null) {
-                log.warnf("The class %s could not be found in the index", className);
-                return;
+    @BuildStep
+    void unremovableContext(GroovyJAXBBuildTimeConfig config, List<JaxbClassesToBeBoundBuildItem> jaxbClasses,
+            BuildProducer<UnremovableBeanBuildItem> unremovableBeans) {
+        if (config.createContextOnStartup() && !jaxbClasses.isEmpty()) {
+            unremovableBeans.produce(UnremovableBeanBuildItem.beanTypes(JAXBContext.class));
+        }
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void createContext(GroovyJAXBBuildTimeConfig config, List<JaxbClassesToBeBoundBuildItem> jaxbClasses,
+            BeanContainerBuildItem beanContainer, GroovyJAXBRecorder recorder) {
+        if (config.createContextOnStartup() && !jaxbClasses.isEmpty()) {
+            recorder.createContext(beanContainer.getValue());
+        }
+    }
+
+    /**
+     * Adds to the classes to visit the classes that JAXB may bind from the given class, that are its superclass, the
+     * types of its instance fields, the types of its properties and the classes referenced by {@link XmlSeeAlso}.
+     */
+    private static void addReferencedClassesToVisit(ClassInfo classInfo, Set<DotName> classesVisited,
+            Deque<DotName> classesToVisit) {
+        if (classInfo.superName() != null) {
+            addClassToVisit(classInfo.superName(), classesVisited, classesToVisit);
+        }
+        for (FieldInfo fieldInfo : classInfo.fields()) {
+            if (!Modifier.isStatic(fieldInfo.flags())) {
+                addClassesToVisit(fieldInfo.type(), classesVisited, classesToVisit);
             }
-            if (GroovyUtil.isGroovyObject(classInfo)) {
-                classesToTransform.add(className);
+        }
+        for (MethodInfo methodInfo : classInfo.methods()) {
+            if (Modifier.isStatic(methodInfo.flags())) {
+                continue;
             }
-            for (FieldInfo fieldInfo : classInfo.fields()) {
-                if (!Modifier.isStatic(fieldInfo.flags())) {
-                    addClassesToTransform(view, fieldInfo.type(), classesToTransform, classesProcessed);
-                }
+            if (isGetter(methodInfo)) {
+                addClassesToVisit(methodInfo.returnType(), classesVisited, classesToVisit);
+            } else if (isSetter(methodInfo)) {
+                addClassesToVisit(methodInfo.parameterType(0), classesVisited, classesToVisit);
+            }
+        }
+        AnnotationInstance seeAlso = classInfo.declaredAnnotation(DOTNAME_XML_SEE_ALSO);
+        if (seeAlso != null && seeAlso.value() != null) {
+            for (Type type : seeAlso.value().asClassArray()) {
+                addClassesToVisit(type, classesVisited, classesToVisit);
             }
         }
     }
 
-    private void addClassesToTransform(IndexView view, Type type, Set<String> classesToTransform,
-            Set<String> classesProcessed) {
+    private static void addClassesToVisit(Type type, Set<DotName> classesVisited, Deque<DotName> classesToVisit) {
         if (type.kind() == Type.Kind.CLASS) {
-            addClassesToTransform(view, type.name().toString(), classesToTransform, classesProcessed);
+            addClassToVisit(type.name(), classesVisited, classesToVisit);
         } else if (type.kind() == Type.Kind.PARAMETERIZED_TYPE) {
+            addClassToVisit(type.name(), classesVisited, classesToVisit);
             for (Type pType : type.asParameterizedType().arguments()) {
-                addClassesToTransform(view, pType, classesToTransform, classesProcessed);
+                addClassesToVisit(pType, classesVisited, classesToVisit);
             }
         } else if (type.kind() == Type.Kind.ARRAY) {
-            addClassesToTransform(view, type.asArrayType().constituent(), classesToTransform, classesProcessed);
+            addClassesToVisit(type.asArrayType().constituent(), classesVisited, classesToVisit);
+        } else if (type.kind() == Type.Kind.WILDCARD_TYPE) {
+            addClassesToVisit(type.asWildcardType().extendsBound(), classesVisited, classesToVisit);
         }
     }
 
+    /**
+     * @return {@code true} if the given class has been added to the classes to visit, {@code false} if it has already
+     *         been visited or if it cannot be a Groovy object.
+     */
+    private static boolean addClassToVisit(DotName name, Set<DotName> classesVisited, Deque<DotName> classesToVisit) {
+        if (classesVisited.add(name)) {
+            String className = name.toString();
+            if (!GroovyUtil.isGroovyClass(className) && !isJDKClass(className)) {
+                return classesToVisit.add(name);
+            }
+        }
+        return false;
+    }
+
+    private static boolean isGetter(MethodInfo methodInfo) {
+        String name = methodInfo.name();
+        return methodInfo.parametersCount() == 0 && methodInfo.returnType().kind() != Type.Kind.VOID
+                && (name.length() > 3 && name.startsWith("get") || name.length() > 2 && name.startsWith("is"));
+    }
+
+    private static boolean isSetter(MethodInfo methodInfo) {
+        String name = methodInfo.name();
+        return methodInfo.parametersCount() == 1 && name.length() > 3 && name.startsWith("set");
+    }
+
     private static boolean isJDKClass(String className) {
-        return className.startsWith("java.") || className.startsWith("javax.") || className.startsWith("jdk.");
+        return className.startsWith("java.") || className.startsWith("javax.") || className.startsWith("jdk.")
+                || className.startsWith("jakarta.");
     }
 }
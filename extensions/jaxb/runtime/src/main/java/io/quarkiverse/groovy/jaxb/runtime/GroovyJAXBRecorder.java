@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.jaxb.runtime;
+
+import java.util.concurrent.TimeUnit;
+
+import jakarta.xml.bind.JAXBContext;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.runtime.BeanContainer;
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class GroovyJAXBRecorder {
+
+    private static final Logger LOG = Logger.getLogger(GroovyJAXBRecorder.class);
+
+    /**
+     * Creates the {@link JAXBContext} bound to the classes collected at build time, so that the model of the Groovy
+     * classes is introspected on startup instead of on the first request that reads or writes XML content.
+     *
+     * @param beanContainer the bean container providing the {@link JAXBContext}.
+     */
+    public void createContext(BeanContainer beanContainer) {
+        long start = System.nanoTime();
+        JAXBContext context = beanContainer.beanInstance(JAXBContext.class);
+        // Invoke the context to make sure that it is created in case it is provided through a client proxy
+        String description = context.toString();
+        if (LOG.isDebugEnabled()) {
+            LOG.debugf("JAXB context created in %d ms: %s", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                    description);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.templates.deployment;
+
+import java.util.List;
+
+import org.codehaus.groovy.control.CompilationUnit;
+import org.codehaus.groovy.control.CompilerConfiguration;
+import org.codehaus.groovy.control.Phases;
+import org.codehaus.groovy.tools.GroovyClass;
+
+import groovy.lang.GroovyClassLoader;
+import groovy.text.markup.MarkupTemplateEngine;
+import groovy.text.markup.TemplateConfiguration;
+
+/**
+ * {@code GroovyTemplateCompiler} compiles the Groovy markup templates into classes the same way as the
+ * {@link MarkupTemplateEngine} does on demand, which means with the static type checking of the template expressions.
+ */
+final class GroovyTemplateCompiler {
+
+    private final CompilerConfiguration configuration;
+    private final GroovyClassLoader classLoader;
+
+    GroovyTemplateCompiler(ClassLoader parentLoader, TemplateConfiguration templateConfiguration) {
+        // The engine is only used to get the compiler configuration that it builds from the template configuration
+        MarkupTemplateEngine engine = new MarkupTemplateEngine(parentLoader, templateConfiguration);
+        this.configuration = engine.getCompilerConfiguration();
+        this.classLoader = new GroovyClassLoader(parentLoader, configuration);
+    }
+
+    /**
+     * Compiles the given template.
+     *
+     * @param className the name of the main class of the template.
+     * @param source the content of the template.
+     * @return the classes of the template, the main class followed by the classes of the closures.
+     */
+    List<GroovyClass> compile(String className, String source) {
+        CompilationUnit unit = new CompilationUnit(configuration, null, classLoader);
+        // The name of the main class is deduced from the name of the source
+        unit.addSource(className + ".groovy", source);
+        unit.compile(Phases.CLASS_GENERATION);
+        return unit.getClasses();
+    }
+}
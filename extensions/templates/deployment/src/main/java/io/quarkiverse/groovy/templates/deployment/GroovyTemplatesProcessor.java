@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.templates.deployment;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import jakarta.inject.Singleton;
+
+import org.codehaus.groovy.control.CompilationFailedException;
+import org.codehaus.groovy.tools.GroovyClass;
+import org.jboss.logging.Logger;
+
+import groovy.text.markup.MarkupTemplateEngine;
+import io.quarkiverse.groovy.templates.runtime.GroovyTemplateEngine;
+import io.quarkiverse.groovy.templates.runtime.GroovyTemplateResolver;
+import io.quarkiverse.groovy.templates.runtime.GroovyTemplatesConfig;
+import io.quarkiverse.groovy.templates.runtime.GroovyTemplatesRecorder;
+import io.quarkiverse.groovy.templates.runtime.TemplateMessageBodyWriter;
+import io.quarkiverse.groovy.templates.runtime.TemplateProducer;
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.AdditionalIndexedClassesBuildItem;
+import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
+import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.deployment.builditem.HotDeploymentWatchedFileBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.pkg.steps.NativeBuild;
+
+class GroovyTemplatesProcessor {
+
+    private static final Logger LOG = Logger.getLogger(GroovyTemplatesProcessor.class);
+
+    /**
+     * The prefix of the name of the main classes of the compiled templates.
+     */
+    private static final String CLASS_NAME_PREFIX = "GroovyTemplate_";
+    /**
+     * The transformation applied when the template engine is created.
+     */
+    private static final String STATIC_COMPILE_TRANSFORMATION = "org.codehaus.groovy.transform.sc.StaticCompileTransformation";
+
+    @BuildStep
+    FeatureBuildItem featureBuildItem() {
+        return new FeatureBuildItem("groovy-templates");
+    }
+
+    /*
+     * Restart the application when a template is modified to compile it again.
+     */
+    @BuildStep
+    HotDeploymentWatchedFileBuildItem watchTemplates() {
+        return HotDeploymentWatchedFileBuildItem.builder()
+                .setLocationPredicate(location -> location.startsWith(GroovyTemplateResolver.TEMPLATES_DIR))
+                .build();
+    }
+
+    /*
+     * Compile the templates found in the templates directory of the application.
+     */
+    @BuildStep
+    void compileTemplates(GroovyTemplatesConfig config, ApplicationArchivesBuildItem applicationArchives,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BuildProducer<GroovyTemplateBuildItem> templates,
+            BuildProducer<NativeImageResourceBuildItem> resources,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass) {
+        GroovyTemplateCompiler compiler = new GroovyTemplateCompiler(Thread.currentThread().getContextClassLoader(),
+                GroovyTemplateEngine.createConfiguration(config));
+        Set<String> classNames = new HashSet<>();
+        for (Path root : applicationArchives.getRootArchive().getResolvedPaths()) {
+            Path directory = root.resolve(GroovyTemplateResolver.TEMPLATES_DIR);
+            if (!Files.isDirectory(directory)) {
+                continue;
+            }
+            for (Path file : findTemplates(directory, config.suffixes())) {
+                String path = directory.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+                String className = toClassName(path, classNames);
+                List<GroovyClass> classes;
+                try {
+                    classes = compiler.compile(className, Files.readString(file));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } catch (CompilationFailedException e) {
+                    throw new IllegalStateException("The template %s could not be compiled".formatted(path), e);
+                }
+                List<String> names = new ArrayList<>(classes.size());
+                for (GroovyClass groovyClass : classes) {
+                    generatedClasses.produce(
+                            new GeneratedClassBuildItem(true, groovyClass.getName(), groovyClass.getBytes()));
+                    names.add(groovyClass.getName());
+                }
+                templates.produce(new GroovyTemplateBuildItem(path, className));
+                // Needed to include the template into another template
+                resources.produce(new NativeImageResourceBuildItem(GroovyTemplateResolver.TEMPLATES_DIR + path));
+                reflectiveClass.produce(ReflectiveClassBuildItem.builder(names.toArray(new String[0]))
+                        .constructors().methods().build());
+                LOG.debugf("The template %s has been compiled into %s", path, className);
+            }
+        }
+    }
+
+    @BuildStep
+    AdditionalBeanBuildItem additionalBeans() {
+        return AdditionalBeanBuildItem.unremovableOf(TemplateProducer.class);
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    SyntheticBeanBuildItem createEngine(GroovyTemplatesRecorder recorder, List<GroovyTemplateBuildItem> templates) {
+        Map<String, String> classNames = new HashMap<>();
+        for (GroovyTemplateBuildItem template : templates) {
+            classNames.put(template.getPath(), template.getClassName());
+        }
+        return SyntheticBeanBuildItem.configure(GroovyTemplateEngine.class)
+                .types(MarkupTemplateEngine.class)
+                .scope(Singleton.class)
+                .unremovable()
+                .runtimeValue(recorder.createEngine(classNames))
+                .done();
+    }
+
+    /*
+     * Register the JAX-RS provider rendering the templates if a REST extension is available.
+     */
+    @BuildStep
+    void registerProvider(Capabilities capabilities,
+            BuildProducer<AdditionalIndexedClassesBuildItem> additionalIndexedClasses) {
+        if (capabilities.isPresent(Capability.REST) || capabilities.isPresent(Capability.RESTEASY)) {
+            additionalIndexedClasses.produce(new AdditionalIndexedClassesBuildItem(
+                    TemplateMessageBodyWriter.class.getName()));
+        }
+    }
+
+    /*
+     * The transformation applied to the templates compiled on demand is instantiated by reflection when the template
+     * engine is created.
+     */
+    @BuildStep(onlyIf = NativeBuild.class)
+    ReflectiveClassBuildItem registerTransformation() {
+        return ReflectiveClassBuildItem.builder(STATIC_COMPILE_TRANSFORMATION).constructors().build();
+    }
+
+    private static List<Path> findTemplates(Path directory, List<String> suffixes) {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(file -> suffixes.stream().anyMatch(suffix -> file.getFileName().toString().endsWith(
+                            "." + suffix)))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return a unique name of main class for the template of the given path.
+     */
+    private static String toClassName(String path, Set<String> classNames) {
+        String className = CLASS_NAME_PREFIX + path.replaceAll("\\W", "_");
+        String candidate = className;
+        for (int i = 1; !classNames.add(candidate); i++) {
+            candidate = className + "_" + i;
+        }
+        return candidate;
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.templates.runtime;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.codehaus.groovy.control.CompilationFailedException;
+
+import groovy.text.Template;
+import groovy.text.markup.BaseTemplate;
+import groovy.text.markup.MarkupTemplateEngine;
+import groovy.text.markup.TemplateConfiguration;
+
+/**
+ * {@code GroovyTemplateEngine} is a {@link MarkupTemplateEngine} providing the templates compiled at build time, the
+ * other templates are still compiled on demand which is not supported in native mode.
+ */
+public class GroovyTemplateEngine extends MarkupTemplateEngine {
+
+    private final TemplateConfiguration configuration;
+    private final GroovyTemplateResolver resolver;
+    /**
+     * The constructors of the compiled templates by path relative to the {@code templates} directory.
+     */
+    private final Map<String, Constructor<? extends BaseTemplate>> templates = new HashMap<>();
+    /**
+     * The paths of the compiled templates by path without suffix, several paths meaning that the path without suffix
+     * is ambiguous.
+     */
+    private final Map<String, List<String>> pathsWithoutSuffix = new HashMap<>();
+
+    public GroovyTemplateEngine(ClassLoader parentLoader, TemplateConfiguration configuration,
+            Map<String, Class<? extends BaseTemplate>> templates) {
+        this(parentLoader, configuration, templates, new GroovyTemplateResolver());
+    }
+
+    private GroovyTemplateEngine(ClassLoader parentLoader, TemplateConfiguration configuration,
+            Map<String, Class<? extends BaseTemplate>> templates, GroovyTemplateResolver resolver) {
+        super(parentLoader, configuration, resolver);
+        this.configuration = configuration;
+        this.resolver = resolver;
+        for (Map.Entry<String, Class<? extends BaseTemplate>> entry : templates.entrySet()) {
+            try {
+                this.templates.put(entry.getKey(), entry.getValue().getConstructor(MarkupTemplateEngine.class,
+                        Map.class, Map.class, TemplateConfiguration.class));
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException("The class %s is not a compiled template"
+                        .formatted(entry.getValue().getName()), e);
+            }
+            String path = entry.getKey();
+            int index = path.lastIndexOf('.');
+            if (index >= 0) {
+                pathsWithoutSuffix.computeIfAbsent(path.substring(0, index), key -> new ArrayList<>()).add(path);
+            }
+        }
+        pathsWithoutSuffix.values().forEach(Collections::sort);
+    }
+
+    /**
+     * Creates the template configuration matching with the given configuration of the extension.
+     *
+     * @param config the configuration of the extension.
+     * @return the corresponding template configuration.
+     */
+    public static TemplateConfiguration createConfiguration(GroovyTemplatesConfig config) {
+        TemplateConfiguration configuration = new TemplateConfiguration();
+        configuration.setAutoEscape(config.autoEscape());
+        configuration.setAutoIndent(config.autoIndent());
+        configuration.setAutoNewLine(config.autoNewLine());
+        configuration.setExpandEmptyElements(config.expandEmptyElements());
+        configuration.setUseDoubleQuotes(config.useDoubleQuotes());
+        config.declarationEncoding().ifPresent(configuration::setDeclarationEncoding);
+        return configuration;
+    }
+
+    /**
+     * Gives the template compiled at build time whose path relative to the {@code templates} directory is the given
+     * path, with or without its suffix.
+     *
+     * @param path the path of the template.
+     * @return the corresponding template or {@code null} if there is no such template.
+     * @throws IllegalStateException if the path has no suffix and several templates match with it.
+     */
+    public Template getTemplate(String path) {
+        return getTemplate(path, Map.of());
+    }
+
+    private Template getTemplate(String path, Map<String, String> modelTypes) {
+        Constructor<? extends BaseTemplate> constructor = templates.get(path);
+        if (constructor == null) {
+            List<String> paths = pathsWithoutSuffix.get(path);
+            if (paths == null) {
+                return null;
+            } else if (paths.size() > 1) {
+                throw new IllegalStateException("The template %s is ambiguous, it matches with the templates %s"
+                        .formatted(path, String.join(", ", paths)));
+            }
+            constructor = templates.get(paths.get(0));
+        }
+        return new CompiledTemplate(constructor, modelTypes == null ? Map.of() : modelTypes);
+    }
+
+    @Override
+    public Template createTemplateByPath(String templatePath)
+            throws CompilationFailedException, ClassNotFoundException, IOException {
+        Template template = getTemplate(templatePath);
+        return template == null ? super.createTemplateByPath(templatePath) : template;
+    }
+
+    @Override
+    public Template createTypeCheckedModelTemplateByPath(String templatePath, Map<String, String> modelTypes)
+            throws CompilationFailedException, ClassNotFoundException, IOException {
+        Template template = getTemplate(templatePath, modelTypes);
+        return template == null ? super.createTypeCheckedModelTemplateByPath(templatePath, modelTypes) : template;
+    }
+
+    /**
+     * Called to include a template into another one.
+     */
+    @Override
+    public Template createTypeCheckedModelTemplate(URL resource, Map<String, String> modelTypes)
+            throws CompilationFailedException, ClassNotFoundException, IOException {
+        String path = resolver.getTemplatePath(resource);
+        if (path != null) {
+            Template template = getTemplate(path, modelTypes);
+            if (template != null) {
+                return template;
+            }
+        }
+        return super.createTypeCheckedModelTemplate(resource, modelTypes);
+    }
+
+    /**
+     * A template compiled at build time.
+     */
+    private final class CompiledTemplate implements Template {
+
+        private final Constructor<? extends BaseTemplate> constructor;
+        private final Map<String, String> modelTypes;
+
+        CompiledTemplate(Constructor<? extends BaseTemplate> constructor, Map<String, String> modelTypes) {
+            this.constructor = constructor;
+            this.modelTypes = modelTypes;
+        }
+
+        @Override
+        public BaseTemplate make() {
+            return make(null);
+        }
+
+        @Override
+        @SuppressWarnings("rawtypes")
+        public BaseTemplate make(Map binding) {
+            try {
+                return constructor.newInstance(GroovyTemplateEngine.this, binding == null ? Map.of() : binding,
+                        modelTypes, configuration);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Could not create the template "
+                        + constructor.getDeclaringClass().getName(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.templates.runtime;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import groovy.text.markup.TemplateConfiguration;
+import groovy.text.markup.TemplateResolver;
+
+/**
+ * {@code GroovyTemplateResolver} resolves the paths of the templates relative to the {@code templates} directory.
+ */
+public class GroovyTemplateResolver implements TemplateResolver {
+
+    /**
+     * The directory of the templates.
+     */
+    public static final String TEMPLATES_DIR = "templates/";
+
+    /**
+     * The paths relative to the {@code templates} directory of the resolved templates by URL.
+     */
+    private final Map<String, String> paths = new ConcurrentHashMap<>();
+    private ClassLoader classLoader;
+
+    @Override
+    public void configure(ClassLoader templateClassLoader, TemplateConfiguration configuration) {
+        this.classLoader = templateClassLoader;
+    }
+
+    @Override
+    public URL resolveTemplate(String templatePath) throws IOException {
+        URL resource = classLoader.getResource(TEMPLATES_DIR + templatePath);
+        if (resource == null) {
+            throw new IOException("Unable to load template: " + templatePath);
+        }
+        paths.put(resource.toExternalForm(), templatePath);
+        return resource;
+    }
+
+    /**
+     * @param resource the URL of a template resolved by this resolver.
+     * @return the path relative to the {@code templates} directory of the given template or {@code null} if it has not
+     *         been resolved by this resolver.
+     */
+    String getTemplatePath(URL resource) {
+        return paths.get(resource.toExternalForm());
+    }
+}
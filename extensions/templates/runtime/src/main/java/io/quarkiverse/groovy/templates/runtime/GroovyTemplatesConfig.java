@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.templates.runtime;
+
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Configuration of the Groovy templates extension, fixed at build time since the templates are compiled at build time.
+ */
+@ConfigMapping(prefix = "quarkus.groovy.templates")
+@ConfigRoot(phase = ConfigPhase.BUILD_AND_RUN_TIME_FIXED)
+public interface GroovyTemplatesConfig {
+
+    /**
+     * The suffixes of the files of the {@code templates} directory to compile as Groovy markup templates.
+     */
+    @WithDefault("tpl")
+    List<String> suffixes();
+
+    /**
+     * Whether the variables of the model are automatically escaped when rendered.
+     */
+    @WithDefault("false")
+    boolean autoEscape();
+
+    /**
+     * Whether the elements are automatically indented.
+     */
+    @WithDefault("false")
+    boolean autoIndent();
+
+    /**
+     * Whether a new line is automatically added after the elements.
+     */
+    @WithDefault("false")
+    boolean autoNewLine();
+
+    /**
+     * Whether the elements without body are rendered with an opening and a closing tag rather than a self-closing tag.
+     */
+    @WithDefault("false")
+    boolean expandEmptyElements();
+
+    /**
+     * Whether the attributes are rendered with double quotes rather than simple quotes.
+     */
+    @WithDefault("false")
+    boolean useDoubleQuotes();
+
+    /**
+     * The encoding of the XML declaration, if any.
+     */
+    Optional<String> declarationEncoding();
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.templates.runtime;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import groovy.text.markup.BaseTemplate;
+import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class GroovyTemplatesRecorder {
+
+    private final GroovyTemplatesConfig config;
+
+    public GroovyTemplatesRecorder(GroovyTemplatesConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Creates the template engine providing the templates compiled at build time.
+     *
+     * @param templates the name of the classes of the compiled templates by path relative to the {@code templates}
+     *        directory.
+     * @return the template engine.
+     */
+    public RuntimeValue<GroovyTemplateEngine> createEngine(Map<String, String> templates) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        Map<String, Class<? extends BaseTemplate>> classes = new HashMap<>();
+        for (Map.Entry<String, String> entry : templates.entrySet()) {
+            try {
+                classes.put(entry.getKey(), Class.forName(entry.getValue(), false, classLoader)
+                        .asSubclass(BaseTemplate.class));
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException("The compiled template %s could not be found".formatted(entry.getKey()),
+                        e);
+            }
+        }
+        return new RuntimeValue<>(
+                new GroovyTemplateEngine(classLoader, GroovyTemplateEngine.createConfiguration(config), classes));
+    }
+}
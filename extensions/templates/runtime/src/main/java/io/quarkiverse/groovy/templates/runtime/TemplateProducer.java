@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.templates.runtime;
+
+import java.lang.reflect.Field;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.Default;
+import jakarta.enterprise.inject.Produces;
+import jakarta.enterprise.inject.spi.InjectionPoint;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import groovy.text.Template;
+import io.quarkiverse.groovy.templates.TemplateLocation;
+
+/**
+ * {@code TemplateProducer} provides the templates compiled at build time as CDI beans.
+ */
+@Singleton
+public class TemplateProducer {
+
+    @Inject
+    GroovyTemplateEngine engine;
+
+    @Produces
+    @Dependent
+    @Default
+    Template getDefaultTemplate(InjectionPoint injectionPoint) {
+        if (injectionPoint.getMember() instanceof Field field) {
+            return getTemplate(field.getName(), () -> "the field " + field);
+        }
+        throw new IllegalStateException(
+                "The template injected into %s must be qualified with @TemplateLocation".formatted(injectionPoint));
+    }
+
+    @Produces
+    @Dependent
+    @TemplateLocation("")
+    Template getTemplate(InjectionPoint injectionPoint) {
+        for (var qualifier : injectionPoint.getQualifiers()) {
+            if (qualifier instanceof TemplateLocation location) {
+                return getTemplate(location.value(), injectionPoint::toString);
+            }
+        }
+        throw new IllegalStateException("No @TemplateLocation found on %s".formatted(injectionPoint));
+    }
+
+    private Template getTemplate(String path, Supplier<String> target) {
+        Template template = engine.getTemplate(path);
+        if (template == null) {
+            throw new IllegalStateException(
+                    "No template %s could be found in the templates directory for %s".formatted(path, target.get()));
+        }
+        return template;
+    }
+}
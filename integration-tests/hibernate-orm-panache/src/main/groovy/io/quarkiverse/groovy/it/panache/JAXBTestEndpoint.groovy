@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.it.panache
+
+import jakarta.ws.rs.Consumes
+import jakarta.ws.rs.GET
+import jakarta.ws.rs.POST
+import jakarta.ws.rs.Path
+import jakarta.ws.rs.Produces
+import jakarta.ws.rs.core.MediaType
+
+/**
+ * Marshal and unmarshal Groovy classes reachable from a JAXB root element through a superclass, a getter and
+ * {@code @XmlSeeAlso}.
+ *
+ * @see io.quarkiverse.groovy.it.panache.JAXBContextOnStartupPMT
+ * @see io.quarkiverse.groovy.it.panache.JAXBContextNotOnStartupPMT
+ */
+@Path("jaxb-test")
+class JAXBTestEndpoint {
+
+    @GET
+    @Produces(MediaType.APPLICATION_XML)
+    JAXBDocument get() {
+        new JAXBDocument().tap {
+            reference = "D1"
+            title = "Groovy"
+            author = new JAXBAuthor(name: "Stef")
+            attachment = new JAXBNote(reference: "N1", text: "Some note")
+        }
+    }
+
+    @POST
+    @Consumes(MediaType.APPLICATION_XML)
+    @Produces(MediaType.TEXT_PLAIN)
+    String post(JAXBDocument document) {
+        "${document.title} by ${document.author.name} with ${((JAXBNote) document.attachment).text}"
+    }
+}
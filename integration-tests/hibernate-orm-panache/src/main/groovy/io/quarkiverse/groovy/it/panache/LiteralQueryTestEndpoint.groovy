@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.it.panache
+
+import groovy.transform.CompileStatic
+import jakarta.inject.Inject
+import jakarta.transaction.Transactional
+import jakarta.ws.rs.GET
+import jakarta.ws.rs.Path
+
+/**
+ * Run valid literal find queries, including a shorthand query whose amount of parameters is unknown at build time.
+ *
+ * @see io.quarkiverse.groovy.it.panache.LiteralQueryValidationPMT
+ */
+@CompileStatic
+@Path("literal-query-test")
+class LiteralQueryTestEndpoint {
+
+    @Inject
+    LiteralQueryRepository repository
+
+    @GET
+    @Transactional
+    String test() {
+        repository.find("name", "stef").list()
+        repository.find("name", parameters()).list()
+        repository.list("from LiteralQueryEntity where name = ?1", "stef")
+        "OK"
+    }
+
+    private static Object[] parameters() {
+        ["stef"] as Object[]
+    }
+}
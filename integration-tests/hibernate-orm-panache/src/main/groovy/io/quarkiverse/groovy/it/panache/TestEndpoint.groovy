@@ -16,6 +16,7 @@
  */
 package io.quarkiverse.groovy.it.panache
 
+import groovy.transform.CompileDynamic
 import groovy.transform.CompileStatic
 import jakarta.xml.bind.annotation.XmlElements
 
@@ -27,6 +28,12 @@ import static org.junit.jupiter.api.Assertions.assertTrue
 
 import java.lang.reflect.Field
 import java.lang.reflect.Method
+import java.util.concurrent.Callable
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.Executors
+import java.util.concurrent.ThreadFactory
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
 import java.util.stream.Collectors
 import java.util.stream.Stream
 
@@ -45,9 +52,14 @@ import jakarta.xml.bind.annotation.XmlTransient
 
 import org.hibernate.engine.spi.SelfDirtinessTracker
 import org.hibernate.jpa.QueryHints
+import org.hibernate.stat.Statistics
+import org.jboss.logging.Logger
 import org.junit.jupiter.api.Assertions
 
+import io.quarkiverse.groovy.hibernate.orm.panache.CacheStatistics
+import io.quarkiverse.groovy.hibernate.orm.panache.Panache
 import io.quarkiverse.groovy.hibernate.orm.panache.PanacheQuery
+import io.quarkiverse.groovy.hibernate.orm.panache.runtime.FindQueryCache
 import io.quarkus.narayana.jta.QuarkusTransaction
 import io.quarkus.panache.common.Page
 import io.quarkus.panache.common.Parameters
@@ -62,6 +74,8 @@ import io.quarkus.panache.common.exception.PanacheQueryException
 @Path("test")
 class TestEndpoint {
 
+    private static final Logger LOG = Logger.getLogger(TestEndpoint.class)
+
     private static final String LINE_SEPARATOR = System.getProperty("line.separator")
 
     @Inject
@@ -81,6 +95,8 @@ class TestEndpoint {
     @Inject
     FruitRepository fruitRepository
     @Inject
+    CountryRepository countryRepository
+    @Inject
     ObjectWithCompositeIdRepository objectWithCompositeIdRepository
     @Inject
     ObjectWithEmbeddableIdRepository objectWithEmbeddableIdRepository
@@ -1262,6 +1278,13 @@ class TestEndpoint {
 
         Assertions.assertEquals(1, personDao.findAll().project(PersonName.class).count())
 
+        PersonNameRecord personNameRecord = personDao.find("name", "2").project(PersonNameRecord.class).firstResult()
+        Assertions.assertEquals("2", personNameRecord.name())
+
+        PersonNameImmutable personNameImmutable = personDao.find("name", "2").project(PersonNameImmutable.class)
+                .firstResult()
+        Assertions.assertEquals("2", personNameImmutable.name)
+
         Person owner = makeSavedPerson()
         DogDto dogDto = dogDao.findAll().project(DogDto.class).firstResult()
         Assertions.assertEquals("stef", dogDto.ownerName)
@@ -1719,4 +1742,308 @@ class TestEndpoint {
         Assertions.assertEquals(1, personDao.deleteByQuery("\r\n  \n\ndelete\nfrom\n Person2\nwhere\nname = ?1", "foo"))
         "OK"
     }
+
+    @GET
+    @Path("testStreamDetached")
+    @Transactional
+    String testStreamDetached() {
+        personDao.deleteAll()
+        List<Long> ids = []
+        for (int i = 0; i < 5; i++) {
+            Person person = new Person()
+            person.name = "stef" + i
+            person.persist()
+            ids.add(person.id)
+        }
+        personDao.flush()
+        personDao.getSession().clear()
+        // An entity already managed and modified before the stream is not detached by the stream
+        Person modified = personDao.findById(ids[0])
+        modified.name = "modified"
+
+        Stream<Person> stream = personDao.findAll(Sort.by("id")).streamDetached(2)
+        List<Person> persons = []
+        try {
+            stream.forEach({ Person person -> persons.add(person) })
+        } finally {
+            stream.close()
+        }
+        assertEquals(["modified", "stef1", "stef2", "stef3", "stef4"], persons*.name)
+        assertTrue(personDao.getSession().contains(modified))
+        for (Person person : persons.drop(1)) {
+            assertFalse(personDao.getSession().contains(person))
+        }
+        personDao.flush()
+        personDao.getSession().clear()
+        assertEquals("modified", personDao.findById(ids[0]).name)
+
+        personDao.deleteAll()
+
+        "OK"
+    }
+
+    @GET
+    @Path("testFindQueryCache")
+    @Transactional
+    String testFindQueryCache() {
+        personDao.deleteAll()
+        Person person = new Person()
+        person.name = "stef"
+        person.persist()
+
+        assertEquals(1, personDao.find("name = ?1", "stef").list().size())
+        long hits = FindQueryCache.hitCount()
+        long misses = FindQueryCache.missCount()
+        assertEquals(1, personDao.find("name = ?1", Sort.by("name"), "stef").count())
+        assertEquals(hits + 1, FindQueryCache.hitCount())
+        assertEquals(misses, FindQueryCache.missCount())
+
+        personDao.deleteAll()
+
+        "OK"
+    }
+
+    @GET
+    @Path("testFindByIdsInBatches")
+    @Transactional
+    String testFindByIdsInBatches() {
+        personDao.deleteAll()
+        List<Long> ids = []
+        for (int i = 0; i < 5; i++) {
+            Person person = new Person()
+            person.name = "stef" + i
+            person.persist()
+            ids.add(person.id)
+        }
+        ids.add(2, Long.MAX_VALUE)
+        personDao.getSession().clear()
+
+        List<Person> byIds = personDao.findByIds(ids, 2)
+        assertEquals(6, byIds.size())
+        Assertions.assertNull(byIds.get(2))
+        assertEquals(["stef0", "stef1", "stef2", "stef3", "stef4"], byIds.findAll { it != null }*.name)
+
+        Map<Long, Person> byIdsAsMap = personDao.findByIdsAsMap(ids, 4)
+        assertEquals(5, byIdsAsMap.size())
+        Assertions.assertFalse(byIdsAsMap.containsKey(Long.MAX_VALUE))
+        for (Person person : byIds) {
+            if (person != null) {
+                Assertions.assertSame(person, byIdsAsMap.get(person.id))
+            }
+        }
+
+        personDao.deleteAll()
+
+        "OK"
+    }
+
+    @GET
+    @Path("testVirtualThreads")
+    String testVirtualThreads() {
+        QuarkusTransaction.requiringNew().run({
+            personDao.deleteAll()
+            for (int i = 0; i < 10; i++) {
+                Person person = new Person()
+                person.name = "stef" + i
+                person.persist()
+            }
+        })
+        ThreadFactory threadFactory = virtualThreadFactory()
+        // Limit the amount of threads when falling back to platform threads
+        int tasks = threadFactory == null ? 100 : 2000
+        if (threadFactory == null) {
+            threadFactory = Executors.defaultThreadFactory()
+        }
+        AtomicInteger successes = new AtomicInteger()
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>()
+        List<Thread> threads = []
+        // The stack traces of the pinned virtual threads are printed to the standard output
+        PrintStream out = System.out
+        ByteArrayOutputStream traces = new ByteArrayOutputStream()
+        System.setOut(new PrintStream(new TeeOutputStream(out, traces), true))
+        long start = System.nanoTime()
+        try {
+            for (int i = 0; i < tasks; i++) {
+                Thread thread = threadFactory.newThread({
+                    try {
+                        long count = QuarkusTransaction.requiringNew().call({
+                            personDao.find("name like ?1", "stef%").count()
+                        } as Callable<Long>)
+                        assertEquals(10L, count)
+                        successes.incrementAndGet()
+                    } catch (Throwable e) {
+                        failures.add(e)
+                    }
+                } as Runnable)
+                threads.add(thread)
+                thread.start()
+            }
+            for (Thread thread : threads) {
+                thread.join()
+            }
+        } finally {
+            System.setOut(out)
+        }
+        long duration = Math.max(1L, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+        LOG.infof("%d transactions run on %d %s threads in %d ms (%d tx/s)", tasks, tasks,
+                tasks == 2000 ? "virtual" : "platform", duration, tasks * 1000L / duration)
+        Assertions.assertTrue(failures.isEmpty(), "Failures: " + failures)
+        assertEquals(tasks, successes.get())
+        // Only the frames holding a monitor pin the carrier
+        List<String> pinnedFrames = traces.toString().readLines().findAll {
+            it.contains("<== monitors") && (it.contains("JpaOperations") || it.contains("MetaClass")
+                    || it.contains("ClassInfo"))
+        }
+        Assertions.assertTrue(pinnedFrames.isEmpty(), "Pinned frames: " + pinnedFrames)
+        QuarkusTransaction.requiringNew().run({ personDao.deleteAll() })
+
+        "OK"
+    }
+
+    /**
+     * Writes the bytes to two output streams.
+     */
+    private static class TeeOutputStream extends OutputStream {
+
+        private final OutputStream first
+        private final OutputStream second
+
+        TeeOutputStream(OutputStream first, OutputStream second) {
+            this.first = first
+            this.second = second
+        }
+
+        @Override
+        void write(int b) throws IOException {
+            first.write(b)
+            second.write(b)
+        }
+
+        @Override
+        void write(byte[] b, int off, int len) throws IOException {
+            first.write(b, off, len)
+            second.write(b, off, len)
+        }
+
+        @Override
+        void flush() throws IOException {
+            first.flush()
+        }
+    }
+
+    /**
+     * @return the factory of virtual threads if available, {@code null} otherwise.
+     */
+    @CompileDynamic
+    private static ThreadFactory virtualThreadFactory() {
+        try {
+            return (ThreadFactory) Thread.ofVirtual().name("panache-", 0).factory()
+        } catch (Exception ignored) {
+            // Virtual threads are only available since Java 21
+            return null
+        }
+    }
+
+    @GET
+    @Path("testReadOnly")
+    @Transactional
+    String testReadOnly() {
+        personDao.deleteAll()
+        Person person = new Person()
+        person.name = "stef"
+        person.persist()
+        personDao.getSession().flush()
+        personDao.getSession().clear()
+
+        Person readOnly = personDao.find("name", "stef").readOnly().firstResult()
+        assertTrue(personDao.getSession().isReadOnly(readOnly))
+        readOnly.name = "changed"
+        personDao.getSession().flush()
+        personDao.getSession().clear()
+        assertEquals(1, personDao.count("name", "stef"))
+
+        Person loaded = Panache.withReadOnlySession({
+            Person result = personDao.findById(person.id)
+            result.name = "changed"
+            result
+        })
+        assertTrue(personDao.getSession().isReadOnly(loaded))
+        assertFalse(personDao.getSession().isDefaultReadOnly())
+        personDao.getSession().flush()
+        personDao.getSession().clear()
+        assertEquals(1, personDao.count("name", "stef"))
+
+        personDao.deleteAll()
+
+        "OK"
+    }
+
+    @GET
+    @Path("testCache")
+    String testCache() {
+        Long id = QuarkusTransaction.requiringNew().call({
+            countryRepository.deleteAll()
+            Country country = new Country("FR")
+            countryRepository.persist(country, new Country("BE"))
+            country.id
+        } as Callable<Long>)
+        Statistics statistics = Panache.getSession(Country).getSessionFactory().getStatistics()
+
+        // The find all queries of the cacheable entities are cached
+        QuarkusTransaction.requiringNew().run({ assertEquals(2, countryRepository.listAll().size()) })
+        long queryCacheHits = statistics.getQueryCacheHitCount()
+        QuarkusTransaction.requiringNew().run({ assertEquals(2, countryRepository.listAll().size()) })
+        assertEquals(queryCacheHits + 1, statistics.getQueryCacheHitCount())
+
+        QuarkusTransaction.requiringNew().run({
+            assertEquals(1, countryRepository.find("code", "BE").cacheRegion("countries").list().size())
+        })
+        long regionHits = statistics.getQueryRegionStatistics("countries").getHitCount()
+        QuarkusTransaction.requiringNew().run({
+            assertEquals(1, countryRepository.find("code", "BE").cacheRegion("countries").list().size())
+        })
+        assertEquals(regionHits + 1, statistics.getQueryRegionStatistics("countries").getHitCount())
+
+        CacheStatistics cacheStatistics = Panache.getCacheStatistics(Country)
+        QuarkusTransaction.requiringNew().run({ assertEquals("FR", countryRepository.findById(id).code) })
+        assertEquals(cacheStatistics.hitCount() + 1, Panache.getCacheStatistics(Country).hitCount())
+
+        QuarkusTransaction.requiringNew().run({ countryRepository.deleteAll() })
+
+        "OK"
+    }
+
+    @GET
+    @Path("testUpdateAndEvict")
+    @Transactional
+    String testUpdateAndEvict() {
+        personDao.deleteAll()
+        Person person = new Person()
+        person.name = "stef"
+        person.persist()
+        Person other = new Person()
+        other.name = "other"
+        other.persist()
+        Dog dog = new Dog("octave", "dalmatian")
+        dog.persist()
+
+        // The pending changes are flushed before the update
+        other.name = "other2"
+        assertEquals(1, personDao.updateAndEvict("name = ?1 where name = ?2", "stef2", "stef"))
+        assertFalse(personDao.getSession().contains(person))
+        assertFalse(personDao.getSession().contains(other))
+        // The entities of the other types stay managed
+        assertTrue(personDao.getSession().contains(dog))
+        assertEquals("stef2", personDao.findById(person.id).name)
+        assertEquals("other2", personDao.findById(other.id).name)
+
+        assertEquals(1, personDao.updateAndEvict("name = :name where id = :id",
+                Parameters.with("name", "stef3").and("id", person.id)))
+        assertEquals("stef3", personDao.findById(person.id).name)
+
+        dog.delete()
+        personDao.deleteAll()
+
+        "OK"
+    }
 }
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.it.panache
+
+import static org.assertj.core.api.Assertions.assertThat
+
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.RegisterExtension
+
+import io.quarkus.builder.Version
+import io.quarkus.test.QuarkusProdModeTest
+
+/**
+ * Verifies that the application fails to start when one of its literal find queries is invalid.
+ */
+class InvalidLiteralQueryPMT {
+
+    @RegisterExtension
+    static final QuarkusProdModeTest config = new QuarkusProdModeTest()
+            .withApplicationRoot { jar -> jar
+                        .addClasses(LiteralQueryEntity.class, LiteralQueryRepository.class,
+                                InvalidLiteralQueryTestEndpoint.class, TestResources.class)
+            }
+            .setApplicationName("invalid-literal-query")
+            .setApplicationVersion(Version.getVersion())
+            .setRun(true)
+            .setExpectExit(true)
+            .withConfigurationResource("literalquery.properties")
+
+    @Test
+    void test() {
+        assertThat(config.getExitCode()).isNotZero()
+        assertThat(config.getStartupConsoleOutput()).contains("The query 'unknown = ?1' of the entity "
+                + "io.quarkiverse.groovy.it.panache.LiteralQueryEntity is invalid")
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.it.panache
+
+import static org.assertj.core.api.Assertions.assertThat
+import static org.hamcrest.Matchers.is
+
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.RegisterExtension
+
+import io.quarkus.builder.Version
+import io.quarkus.test.QuarkusProdModeTest
+import io.restassured.RestAssured
+import io.restassured.http.ContentType
+
+/**
+ * Verifies that the JAXB context is not created on startup when it is disabled, but still lazily on first use.
+ */
+class JAXBContextNotOnStartupPMT {
+
+    @RegisterExtension
+    static final QuarkusProdModeTest config = new QuarkusProdModeTest()
+            .withApplicationRoot { jar -> jar
+                        .addClasses(JAXBBase.class, JAXBAuthor.class, JAXBNote.class, JAXBDocument.class,
+                                JAXBTestEndpoint.class, TestResources.class)
+            }
+            .setApplicationName("jaxb-context-not-on-startup")
+            .setApplicationVersion(Version.getVersion())
+            .setRun(true)
+            .withConfigurationResource("jaxbcontext.properties")
+            .overrideConfigKey("quarkus.groovy.jaxb.create-context-on-startup", "false")
+
+    @Test
+    void test() {
+        assertThat(config.getStartupConsoleOutput()).doesNotContain("JAXB context created")
+        RestAssured.given().accept(ContentType.XML)
+                .when().get("/jaxb-test")
+                .then()
+                .body("jaxbDocument.author.name", is("Stef"))
+    }
+}
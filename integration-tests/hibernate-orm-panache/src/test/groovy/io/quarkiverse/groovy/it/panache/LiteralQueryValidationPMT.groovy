@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.it.panache
+
+import static org.hamcrest.Matchers.is
+
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.RegisterExtension
+
+import io.quarkus.builder.Version
+import io.quarkus.test.QuarkusProdModeTest
+import io.restassured.RestAssured
+
+/**
+ * Verifies that the application starts when its literal find queries are valid, even if the amount of parameters of a
+ * shorthand query is unknown at build time.
+ */
+class LiteralQueryValidationPMT {
+
+    @RegisterExtension
+    static final QuarkusProdModeTest config = new QuarkusProdModeTest()
+            .withApplicationRoot { jar -> jar
+                        .addClasses(LiteralQueryEntity.class, LiteralQueryRepository.class,
+                                LiteralQueryTestEndpoint.class, TestResources.class)
+            }
+            .setApplicationName("literal-query-validation")
+            .setApplicationVersion(Version.getVersion())
+            .setRun(true)
+            .withConfigurationResource("literalquery.properties")
+
+    @Test
+    void test() {
+        RestAssured.when().get("/literal-query-test").then().body(is("OK"))
+    }
+}
@@ -20,6 +20,7 @@ import jakarta.inject.Inject
 
 import static org.hamcrest.Matchers.containsString
 import static org.hamcrest.Matchers.is
+import static org.hamcrest.Matchers.not
 import static org.junit.jupiter.api.Assertions.assertEquals
 
 import jakarta.json.bind.Jsonb
@@ -120,6 +121,26 @@ class PanacheFunctionalityTest {
                 .body(is("OK"))
     }
 
+    @Test
+    void testJaxbTypeGraph() {
+        RestAssured.given().accept(ContentType.XML)
+                .when().get("/jaxb-test")
+                .then()
+                .body("jaxbDocument.reference", is("D1"),
+                        "jaxbDocument.title", is("Groovy"),
+                        "jaxbDocument.author.name", is("Stef"),
+                        "jaxbDocument.attachment.reference", is("N1"),
+                        "jaxbDocument.attachment.text", is("Some note"))
+                .body(not(containsString("metaClass")))
+        RestAssured.given().contentType(ContentType.XML)
+                .body('<jaxbDocument xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance"><reference>D1</reference>'
+                        + '<title>Groovy</title><attachment xsi:type="jaxbNote"><text>Some note</text></attachment>'
+                        + '<author><name>Stef</name></author></jaxbDocument>')
+                .when().post("/jaxb-test")
+                .then()
+                .body(is("Groovy by Stef with Some note"))
+    }
+
     /**
      * _PanacheEntityBase_ has the method _isPersistent_. This method is used by Jackson to serialize the attribute *persistent*
      * in the JSON which is not intended. This test ensures that the attribute *persistent* is not generated when using Jackson.
@@ -221,6 +242,18 @@ class PanacheFunctionalityTest {
                         + PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME + "\",result=\"miss\"}"))
     }
 
+    @Test
+    void testQueryMetrics() {
+        RestAssured.when().get("/test/testUpdateAndEvict").then().body(is("OK"))
+        RestAssured.when()
+                .get("/q/metrics")
+                .then()
+                .body(containsString("groovy_panache_query_seconds_count{entity=\"io.quarkiverse.groovy.it.panache.Person\","
+                        + "operation=\"update\",query=\"name = ?1 where name = ?2\"}"),
+                        containsString("groovy_panache_query_rows_total{entity=\"io.quarkiverse.groovy.it.panache.Person\","
+                                + "operation=\"update\",query=\"name = ?1 where name = ?2\"}"))
+    }
+
     @DisabledOnIntegrationTest
     @Transactional
     @Test
@@ -267,4 +300,39 @@ class PanacheFunctionalityTest {
     void testBug31117() {
         RestAssured.when().get("/test/31117").then().body(is("OK"));
     }
+
+    @Test
+    void testStreamDetached() {
+        RestAssured.when().get("/test/testStreamDetached").then().body(is("OK"))
+    }
+
+    @Test
+    void testFindQueryCache() {
+        RestAssured.when().get("/test/testFindQueryCache").then().body(is("OK"))
+    }
+
+    @Test
+    void testFindByIdsInBatches() {
+        RestAssured.when().get("/test/testFindByIdsInBatches").then().body(is("OK"))
+    }
+
+    @Test
+    void testVirtualThreads() {
+        RestAssured.when().get("/test/testVirtualThreads").then().body(is("OK"))
+    }
+
+    @Test
+    void testReadOnly() {
+        RestAssured.when().get("/test/testReadOnly").then().body(is("OK"))
+    }
+
+    @Test
+    void testCache() {
+        RestAssured.when().get("/test/testCache").then().body(is("OK"))
+    }
+
+    @Test
+    void testUpdateAndEvict() {
+        RestAssured.when().get("/test/testUpdateAndEvict").then().body(is("OK"))
+    }
 }
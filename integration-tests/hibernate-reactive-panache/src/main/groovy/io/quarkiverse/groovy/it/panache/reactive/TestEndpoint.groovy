@@ -37,15 +37,19 @@ import jakarta.ws.rs.GET
 import jakarta.ws.rs.Path
 
 import org.hibernate.engine.spi.SelfDirtinessTracker
+import org.hibernate.reactive.mutiny.Mutiny
 import org.junit.jupiter.api.Assertions
 
 import io.quarkiverse.groovy.hibernate.reactive.panache.Panache
+import io.quarkiverse.groovy.hibernate.reactive.panache.PagedResults
 import io.quarkiverse.groovy.hibernate.reactive.panache.PanacheQuery
+import io.quarkiverse.groovy.hibernate.reactive.panache.PersistStatistics
 import io.quarkus.hibernate.reactive.panache.common.WithTransaction
 import io.quarkus.panache.common.Page
 import io.quarkus.panache.common.Parameters
 import io.quarkus.panache.common.Sort
 import io.quarkus.panache.common.exception.PanacheQueryException
+import io.smallrye.mutiny.Multi
 import io.smallrye.mutiny.Uni
 
 // Only to avoid big reflection configuration in Native mode.
@@ -1926,4 +1930,173 @@ class TestEndpoint {
                     personDao.deleteAll()
                 }).map({ "OK" })
     }
+
+    @GET
+    @Path("testStream")
+    @WithTransaction
+    Uni<String> testStream() {
+        personDao.deleteAll()
+                .flatMap({
+                    List<Person> persons = []
+                    for (int i = 0; i < 5; i++) {
+                        Person person = new Person()
+                        person.name = "stef" + i
+                        person.uniqueName = "stef" + i
+                        persons.add(person)
+                    }
+                    Person.persist(persons)
+                }).flatMap({
+                    personDao.streamAll(Sort.by("name"), 2).collect().asList()
+                }).flatMap({ List<Person> list ->
+                    assertEquals(["stef0", "stef1", "stef2", "stef3", "stef4"], list*.name)
+
+                    // The last chunk is empty
+                    personDao.findAll(Sort.by("name")).<Person> stream(5).collect().asList()
+                }).flatMap({ List<Person> list ->
+                    assertEquals(5, list.size())
+
+                    personDao.deleteAll()
+                }).map({ "OK" })
+    }
+
+    @GET
+    @Path("testPersistInBatches")
+    @WithTransaction
+    Uni<String> testPersistInBatches() {
+        personDao.deleteAll()
+                .flatMap({
+                    Multi<Person> persons = Multi.createFrom().range(0, 5).map({ Integer i ->
+                        Person person = new Person()
+                        person.name = "stef" + i
+                        person.uniqueName = "stef" + i
+                        person
+                    })
+                    personDao.persistInBatches(persons, 2)
+                }).flatMap({ PersistStatistics statistics ->
+                    assertEquals(5L, statistics.entityCount())
+                    assertEquals(3, statistics.batchCount())
+                    assertNotNull(statistics.duration())
+
+                    personDao.count()
+                }).flatMap({ count ->
+                    assertEquals(5L, count)
+
+                    personDao.deleteAll()
+                }).map({ "OK" })
+    }
+
+    @GET
+    @Path("testParallel")
+    Uni<String> testParallel() {
+        Panache.withTransaction({
+            personDao.deleteAll()
+                    .flatMap({
+                        Person person = new Person()
+                        person.name = "stef"
+                        person.uniqueName = "stef"
+                        person.persist()
+                    })
+        }).flatMap({
+            Panache.parallel({ personDao.count() } as Supplier,
+                    { personDao.listAll() } as Supplier,
+                    { personDao.find("name", "stef").firstResult() } as Supplier)
+        }).flatMap({ List<Object> results ->
+            assertEquals(3, results.size())
+            assertEquals(1L, results.get(0))
+            assertEquals(1, ((List) results.get(1)).size())
+            assertEquals("stef", ((Person) results.get(2)).uniqueName)
+
+            Panache.parallel(1, { personDao.count() } as Supplier)
+        }).flatMap({ List<Object> results ->
+            assertEquals([1L], results)
+
+            Panache.withTransaction({ personDao.deleteAll() })
+        }).map({ "OK" })
+    }
+
+    @GET
+    @Path("testCountCache")
+    @WithTransaction
+    Uni<String> testCountCache() {
+        PanacheQuery<Person> query = personDao.findAll(Sort.by("name")).page(0, 2)
+        personDao.deleteAll()
+                .flatMap({
+                    List<Person> persons = []
+                    for (int i = 0; i < 3; i++) {
+                        Person person = new Person()
+                        person.name = "stef" + i
+                        person.uniqueName = "stef" + i
+                        persons.add(person)
+                    }
+                    Person.persist(persons)
+                }).flatMap({
+                    query.pageCount()
+                }).flatMap({ Integer pageCount ->
+                    assertEquals(2, pageCount)
+
+                    Person person = new Person()
+                    person.name = "stef3"
+                    person.uniqueName = "stef3"
+                    person.persist()
+                }).flatMap({
+                    // The count is read only once per query
+                    query.hasNextPage()
+                }).flatMap({ Boolean hasNextPage ->
+                    assertTrue(hasNextPage)
+
+                    query.count()
+                }).flatMap({ Long count ->
+                    assertEquals(3L, count)
+
+                    personDao.findAll(Sort.by("name")).page(1, 2).<Person> listAndCount()
+                }).flatMap({ PagedResults<Person> results ->
+                    assertEquals(["stef2", "stef3"], results.list()*.name)
+                    assertEquals(4L, results.count())
+                    assertEquals(2, results.pageCount())
+                    assertFalse(results.hasNextPage())
+
+                    personDao.deleteAll()
+                }).map({ "OK" })
+    }
+
+    @GET
+    @Path("testReadOnly")
+    @WithTransaction
+    Uni<String> testReadOnly() {
+        Person person = new Person()
+        person.name = "stef"
+        person.uniqueName = "stef"
+        personDao.deleteAll()
+                .flatMap({
+                    person.persist()
+                }).flatMap({
+                    Panache.flush()
+                }).flatMap({
+                    personDao.getSession().invoke({ Mutiny.Session session -> session.clear() })
+                }).flatMap({
+                    personDao.find("name", "stef").readOnly().<Person> firstResult()
+                }).flatMap({ Person readOnly ->
+                    readOnly.name = "changed"
+
+                    Panache.withReadOnlySession({
+                        personDao.findById(person.id)
+                    })
+                }).flatMap({ Person loaded ->
+                    loaded.name = "changed"
+
+                    personDao.getSession().map({ Mutiny.Session session ->
+                        assertTrue(session.isReadOnly(loaded))
+                        assertFalse(session.isDefaultReadOnly())
+                        session
+                    })
+                }).flatMap({
+                    Panache.flush()
+                }).flatMap({
+                    personDao.count("name", "stef")
+                }).flatMap({ count ->
+                    assertEquals(1L, count)
+
+                    personDao.deleteAll()
+                }).map({ "OK" })
+    }
 }
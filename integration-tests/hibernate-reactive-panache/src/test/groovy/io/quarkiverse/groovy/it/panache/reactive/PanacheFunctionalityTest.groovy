@@ -20,6 +20,7 @@ import jakarta.inject.Inject
 import org.hibernate.reactive.mutiny.Mutiny
 import org.junit.jupiter.api.Disabled
 
+import static org.hamcrest.Matchers.containsString
 import static org.hamcrest.Matchers.is
 import static org.junit.jupiter.api.Assertions.assertEquals
 import static org.junit.jupiter.api.Assertions.assertNotNull
@@ -333,4 +334,41 @@ class PanacheFunctionalityTest {
     void testPersistenceException(UniAsserter asserter) {
         asserter.assertFailedWith({ Panache.withTransaction({ new Person().delete() }) }, PersistenceException.class)
     }
+
+    @Test
+    void testStream() {
+        RestAssured.when().get("/test/testStream").then().body(is("OK"))
+    }
+
+    @Test
+    void testPersistInBatches() {
+        RestAssured.when().get("/test/testPersistInBatches").then().body(is("OK"))
+    }
+
+    @Test
+    void testParallel() {
+        RestAssured.when().get("/test/testParallel").then().body(is("OK"))
+    }
+
+    @Test
+    void testQueryMetrics() {
+        RestAssured.when().get("/test/testParallel").then().body(is("OK"))
+        RestAssured.when()
+                .get("/q/metrics")
+                .then()
+                .body(containsString("groovy_panache_query_seconds_count{entity=\"io.quarkiverse.groovy.it.panache.reactive.Person\","
+                        + "operation=\"count\",query=\"<all>\"}"),
+                        containsString("groovy_panache_query_rows_total{entity=\"io.quarkiverse.groovy.it.panache.reactive.Person\","
+                                + "operation=\"delete\",query=\"<all>\"}"))
+    }
+
+    @Test
+    void testCountCache() {
+        RestAssured.when().get("/test/testCountCache").then().body(is("OK"))
+    }
+
+    @Test
+    void testReadOnly() {
+        RestAssured.when().get("/test/testReadOnly").then().body(is("OK"))
+    }
 }
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.it.rest.json
+
+import jakarta.ws.rs.Consumes
+import jakarta.ws.rs.POST
+import jakarta.ws.rs.Path
+import jakarta.ws.rs.Produces
+import jakarta.ws.rs.core.MediaType
+
+@Path("json")
+@Consumes(MediaType.APPLICATION_JSON)
+class GroovyJsonResource {
+
+    @POST
+    @Path("map")
+    @Produces(MediaType.TEXT_PLAIN)
+    String map(Map<String, Object> content) {
+        "${content.name} ${content.tags} ${content.address.city}"
+    }
+
+    @POST
+    @Path("list")
+    @Produces(MediaType.TEXT_PLAIN)
+    String list(List<Object> content) {
+        content.join(", ")
+    }
+
+    @POST
+    @Path("echo")
+    @Produces(MediaType.APPLICATION_JSON)
+    Map<String, Object> echo(Map<String, Object> content) {
+        content
+    }
+}
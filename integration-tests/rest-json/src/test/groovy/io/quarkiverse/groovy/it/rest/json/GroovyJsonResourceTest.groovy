@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.it.rest.json
+
+import java.nio.charset.StandardCharsets
+
+import io.quarkus.test.junit.QuarkusTest
+import io.restassured.http.ContentType
+import org.junit.jupiter.api.Test
+
+import static io.restassured.RestAssured.given
+import static org.hamcrest.CoreMatchers.is
+
+@QuarkusTest
+class GroovyJsonResourceTest {
+
+    @Test
+    void testMap() {
+        given()
+                .contentType(ContentType.JSON)
+                .body('{"name": "Stef", "tags": ["a", "b"], "address": {"city": "Paris", "zip": 75001}}')
+                .when()
+                .post("/json/map")
+                .then()
+                .statusCode(200)
+                .body(is("Stef [a, b] Paris"))
+    }
+
+    @Test
+    void testList() {
+        given()
+                .contentType(ContentType.JSON)
+                .body('[1, 2.5, "three", true, null]')
+                .when()
+                .post("/json/list")
+                .then()
+                .statusCode(200)
+                .body(is("1, 2.5, three, true, null"))
+    }
+
+    @Test
+    void testEcho() {
+        given()
+                .contentType(ContentType.JSON)
+                .body('{"name": "Stef", "tags": ["a", "b"], "address": {"city": "Paris", "zip": 75001}}')
+                .when()
+                .post("/json/echo")
+                .then()
+                .statusCode(200)
+                .body("name", is("Stef"))
+                .body("tags", is(["a", "b"]))
+                .body("address.city", is("Paris"))
+                .body("address.zip", is(75001))
+    }
+
+    @Test
+    void testCharset() {
+        given()
+                .contentType("application/json; charset=ISO-8859-1")
+                .body('{"name": "Stéphane", "tags": [], "address": {"city": "Orléans"}}'
+                        .getBytes(StandardCharsets.ISO_8859_1))
+                .when()
+                .post("/json/map")
+                .then()
+                .statusCode(200)
+                .body(is("Stéphane [] Orléans"))
+    }
+
+    @Test
+    void testUtf8ByDefault() {
+        given()
+                .contentType("application/json")
+                .body('{"name": "Stéphane", "tags": [], "address": {"city": "Orléans"}}'
+                        .getBytes(StandardCharsets.UTF_8))
+                .when()
+                .post("/json/map")
+                .then()
+                .statusCode(200)
+                .body(is("Stéphane [] Orléans"))
+    }
+
+    @Test
+    void testUnknownCharset() {
+        given()
+                .contentType("application/json; charset=unknown")
+                .body('{"name": "Stéphane", "tags": [], "address": {"city": "Orléans"}}'
+                        .getBytes(StandardCharsets.UTF_8))
+                .when()
+                .post("/json/map")
+                .then()
+                .statusCode(200)
+                .body(is("Stéphane [] Orléans"))
+    }
+}
@@ -16,14 +16,21 @@
  */
 package io.quarkiverse.groovy.it.resteasy.reactive
 
+import groovy.json.StreamingJsonBuilder
+import groovy.text.Template
+import io.quarkiverse.groovy.runtime.script.GroovyScriptEvaluator
+import io.quarkiverse.groovy.runtime.script.GroovyScriptRegistry
+import io.quarkiverse.groovy.templates.TemplateLocation
 import io.quarkus.runtime.annotations.RegisterForReflection
 import jakarta.inject.Inject
 import jakarta.ws.rs.GET
 import jakarta.ws.rs.POST
 import jakarta.ws.rs.Path
 import jakarta.ws.rs.PathParam
+import jakarta.ws.rs.Produces
 import jakarta.ws.rs.core.Context
 import jakarta.ws.rs.core.HttpHeaders
+import jakarta.ws.rs.core.MediaType
 import jakarta.ws.rs.core.Response
 import jakarta.ws.rs.core.UriInfo
 import org.jboss.resteasy.reactive.RestHeader
@@ -35,6 +42,23 @@ class GreetingResource {
     @Inject
     HttpHeaders headers
 
+    @Inject
+    Template hello
+
+    @Inject
+    @TemplateLocation("greetings/welcome")
+    Template welcome
+
+    @Inject
+    @TemplateLocation("templates/page.tpl")
+    Template page
+
+    @Inject
+    GroovyScriptRegistry scripts
+
+    @Inject
+    GroovyScriptEvaluator evaluator
+
     @GET
     Greeting testSuspend(@RestHeader("firstName") String firstName) {
         var lastName = headers.getHeaderString("lastName")
@@ -43,6 +67,89 @@ class GreetingResource {
 
     @GET @Path("noop") def noop() {}
 
+    @GET
+    @Path("json/{name}")
+    @Produces(MediaType.APPLICATION_JSON)
+    Writable json(@PathParam("name") String name) {
+        { Writer writer ->
+            new StreamingJsonBuilder(writer).call(message: "hello $name")
+            writer
+        } as Writable
+    }
+
+    @GET
+    @Path("text/{name}")
+    @Produces(MediaType.TEXT_PLAIN)
+    GString text(@PathParam("name") String name) {
+        "hello $name"
+    }
+
+    @GET
+    @Path("html/{name}")
+    @Produces(MediaType.TEXT_HTML)
+    Writable html(@PathParam("name") String name) {
+        hello.make(name: name)
+    }
+
+    @GET
+    @Path("html/welcome/{name}")
+    @Produces(MediaType.TEXT_HTML)
+    Writable htmlWelcome(@PathParam("name") String name) {
+        welcome.make(name: name)
+    }
+
+    @GET
+    @Path("html/page")
+    @Produces(MediaType.TEXT_HTML)
+    Writable htmlPage() {
+        page.make()
+    }
+
+    @GET
+    @Path("script/{name}")
+    @Produces(MediaType.TEXT_PLAIN)
+    String script(@PathParam("name") String name) {
+        scripts.getScript("greeting", new Binding(name: name)).run()
+    }
+
+    @GET
+    @Path("script/french/{name}")
+    @Produces(MediaType.TEXT_PLAIN)
+    String frenchScript(@PathParam("name") String name) {
+        scripts.getScript("french/greeting", new Binding(name: name)).run()
+    }
+
+    @GET
+    @Path("eval/{name}")
+    @Produces(MediaType.TEXT_PLAIN)
+    String eval(@PathParam("name") String name) {
+        evaluator.evaluate('"hello $name".toString()', [name: name])
+    }
+
+    @GET
+    @Path("eval/counter")
+    @Produces(MediaType.TEXT_PLAIN)
+    String evalCounter() {
+        def script = '@groovy.transform.Field int count = 0\ncount++\ncount'
+        "${evaluator.evaluate(script)} ${evaluator.evaluate(script)}"
+    }
+
+    @GET
+    @Path("eval/batch")
+    @Produces(MediaType.TEXT_PLAIN)
+    String evalBatch() {
+        def compilations = evaluator.compileAll(['1 + 1', '"hello"', 'a +'])
+        compilations.collect { it.succeeded() }.join(' ')
+    }
+
+    @GET
+    @Path("eval/statistics")
+    @Produces(MediaType.TEXT_PLAIN)
+    String evalStatistics() {
+        def statistics = evaluator.statistics
+        "${statistics.size()} ${statistics.misses()}"
+    }
+
     @POST
     @Path("body/{name}")
     def body(
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.it.resteasy.reactive
+
+import com.fasterxml.jackson.annotation.JsonIgnore
+import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector
+import io.quarkus.arc.properties.IfBuildProperty
+import io.quarkus.jackson.ObjectMapperCustomizer
+import jakarta.inject.Singleton
+
+/**
+ * Prevents Jackson from honoring the {@code java.beans.Transient} marker that Groovy adds to {@code getMetaClass}, to
+ * make sure that the {@code metaClass} property is ignored thanks to the {@code @JsonIgnore} added by the extension.
+ * It is only enabled by the test profile {@code IgnoreTransientMarkerTest} to keep the default setup of the other tests.
+ */
+@Singleton
+@IfBuildProperty(name = "it.jackson.ignore-transient-marker", stringValue = "true")
+class IgnoreTransientMarkerCustomizer implements ObjectMapperCustomizer {
+
+    @Override
+    void customize(ObjectMapper mapper) {
+        mapper.setAnnotationIntrospector(new JacksonAnnotationIntrospector() {
+            @Override
+            boolean hasIgnoreMarker(AnnotatedMember m) {
+                m.getAnnotation(JsonIgnore)?.value() ?: false
+            }
+        })
+    }
+}
@@ -0,0 +1 @@
+"bonjour $name".toString()
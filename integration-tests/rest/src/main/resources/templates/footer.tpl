@@ -0,0 +1 @@
+p('root footer')
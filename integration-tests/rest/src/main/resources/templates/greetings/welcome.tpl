@@ -0,0 +1 @@
+p("welcome $name")
@@ -0,0 +1 @@
+h1('Greeting')
@@ -0,0 +1,10 @@
+modelTypes = {
+    String name
+}
+
+html {
+    body {
+        include template: 'header.tpl'
+        p("hello $name")
+    }
+}
@@ -0,0 +1 @@
+p('nested footer')
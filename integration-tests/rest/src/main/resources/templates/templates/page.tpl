@@ -0,0 +1,3 @@
+div {
+    include template: 'templates/footer.tpl'
+}
@@ -16,6 +16,7 @@
  */
 package io.quarkiverse.groovy.it.resteasy.reactive
 
+import io.quarkus.test.junit.DisabledOnIntegrationTest
 import io.quarkus.test.junit.QuarkusTest
 import io.restassured.http.ContentType
 import org.junit.jupiter.api.Test
@@ -23,6 +24,7 @@ import org.junit.jupiter.api.Test
 import static io.restassured.RestAssured.given
 import static org.hamcrest.CoreMatchers.is
 import static org.hamcrest.CoreMatchers.notNullValue
+import static org.junit.jupiter.api.Assertions.assertEquals
 
 @QuarkusTest
 class GreetingResourceTest {
@@ -51,6 +53,123 @@ class GreetingResourceTest {
             .header("random", notNullValue())
     }
 
+    @Test
+    void testStreamingJson() {
+        given()
+            .when()
+            .get("/greeting/json/foo")
+            .then()
+            .statusCode(200)
+            .contentType(ContentType.JSON)
+            .body("message", is("hello foo"))
+    }
+
+    @Test
+    void testGString() {
+        given()
+            .when()
+            .get("/greeting/text/foo")
+            .then()
+            .statusCode(200)
+            .contentType(ContentType.TEXT)
+            .body(is("hello foo"))
+    }
+
+    @Test
+    void testTemplate() {
+        given()
+            .when()
+            .get("/greeting/html/foo")
+            .then()
+            .statusCode(200)
+            .contentType(ContentType.HTML)
+            .body(is("<html><body><h1>Greeting</h1><p>hello foo</p></body></html>"))
+    }
+
+    @Test
+    void testTemplateInSubdirectoryWithoutSuffix() {
+        given()
+            .when()
+            .get("/greeting/html/welcome/foo")
+            .then()
+            .statusCode(200)
+            .contentType(ContentType.HTML)
+            .body(is("<p>welcome foo</p>"))
+    }
+
+    @Test
+    void testTemplateIncludedFromTemplatesSubdirectory() {
+        given()
+            .when()
+            .get("/greeting/html/page")
+            .then()
+            .statusCode(200)
+            .contentType(ContentType.HTML)
+            .body(is("<div><p>nested footer</p></div>"))
+    }
+
+    @Test
+    void testPrecompiledScript() {
+        given()
+            .when()
+            .get("/greeting/script/foo")
+            .then()
+            .statusCode(200)
+            .body(is("hello foo"))
+    }
+
+    @Test
+    void testPrecompiledScriptWithSameFileName() {
+        given()
+            .when()
+            .get("/greeting/script/french/foo")
+            .then()
+            .statusCode(200)
+            .body(is("bonjour foo"))
+    }
+
+    @Test
+    @DisabledOnIntegrationTest("Compiling a script at runtime is not supported in native mode")
+    void testEvaluatedScript() {
+        long misses = evaluatorMisses()
+        given()
+            .when()
+            .get("/greeting/eval/foo")
+            .then()
+            .statusCode(200)
+            .body(is("hello foo"))
+        given()
+            .when()
+            .get("/greeting/eval/bar")
+            .then()
+            .statusCode(200)
+            .body(is("hello bar"))
+        // The script is compiled only once
+        assertEquals(misses + 1, evaluatorMisses())
+    }
+
+    @Test
+    @DisabledOnIntegrationTest("Compiling a script at runtime is not supported in native mode")
+    void testEvaluatedScriptStateNotShared() {
+        given()
+            .when()
+            .get("/greeting/eval/counter")
+            .then()
+            .statusCode(200)
+            .body(is("1 1"))
+    }
+
+    @Test
+    @DisabledOnIntegrationTest("Compiling a script at runtime is not supported in native mode")
+    void testCompiledBatchOfScripts() {
+        given()
+            .when()
+            .get("/greeting/eval/batch")
+            .then()
+            .statusCode(200)
+            .body(is("true true false"))
+    }
+
     @Test
     void testNoopCoroutine() {
         given()
@@ -59,4 +178,17 @@ class GreetingResourceTest {
             .then()
             .statusCode(204)
     }
+
+    /**
+     * @return the amount of scripts compiled so far by the evaluator shared by all the tests.
+     */
+    private static long evaluatorMisses() {
+        String statistics = given()
+            .when()
+            .get("/greeting/eval/statistics")
+            .then()
+            .statusCode(200)
+            .extract().asString()
+        statistics.split(" ")[1] as long
+    }
 }
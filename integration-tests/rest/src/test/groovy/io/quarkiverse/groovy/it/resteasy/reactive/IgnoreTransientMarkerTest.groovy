@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.it.resteasy.reactive
+
+import io.quarkus.test.junit.QuarkusTest
+import io.quarkus.test.junit.QuarkusTestProfile
+import io.quarkus.test.junit.TestProfile
+
+/**
+ * Runs the tests of {@link JacksonTest} with a Jackson that no longer honors the {@code java.beans.Transient} marker
+ * added by Groovy, so that only the {@code @JsonIgnore} added by the extension hides the {@code metaClass} property.
+ */
+@QuarkusTest
+@TestProfile(IgnoreTransientMarkerProfile)
+class IgnoreTransientMarkerTest extends JacksonTest {
+
+    static class IgnoreTransientMarkerProfile implements QuarkusTestProfile {
+
+        @Override
+        Map<String, String> getConfigOverrides() {
+            ["it.jackson.ignore-transient-marker": "true"]
+        }
+    }
+}
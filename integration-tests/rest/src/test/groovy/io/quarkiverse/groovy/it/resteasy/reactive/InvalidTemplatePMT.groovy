@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.it.resteasy.reactive
+
+import static org.junit.jupiter.api.Assertions.assertNotNull
+import static org.junit.jupiter.api.Assertions.fail
+
+import org.jboss.shrinkwrap.api.asset.StringAsset
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.RegisterExtension
+
+import io.quarkus.builder.Version
+import io.quarkus.test.QuarkusProdModeTest
+
+/**
+ * Verifies that the build fails when a template cannot be compiled.
+ */
+class InvalidTemplatePMT {
+
+    @RegisterExtension
+    static final QuarkusProdModeTest config = new QuarkusProdModeTest()
+            .withApplicationRoot { jar -> jar
+                        .addAsResource(new StringAsset("html {\n    p('unclosed'\n"), "templates/invalid.tpl")
+            }
+            .setApplicationName("invalid-template")
+            .setApplicationVersion(Version.getVersion())
+            .assertBuildException { Throwable t ->
+                Throwable cause = t
+                while (cause != null && !(cause instanceof IllegalStateException
+                        && cause.message?.contains("invalid.tpl could not be compiled"))) {
+                    cause = cause.cause
+                }
+                assertNotNull(cause, "The build should have failed because of the invalid template")
+            }
+
+    @Test
+    void test() {
+        fail("The build should have failed")
+    }
+}
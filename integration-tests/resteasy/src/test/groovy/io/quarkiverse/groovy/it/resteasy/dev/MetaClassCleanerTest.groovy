@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.it.resteasy.dev
+
+import com.fasterxml.jackson.databind.JsonNode
+import io.quarkus.devui.tests.DevUIJsonRPCTest
+import io.quarkus.test.QuarkusDevModeTest
+import org.codehaus.groovy.runtime.m12n.ExtensionModuleScanner
+import org.jboss.shrinkwrap.api.asset.StringAsset
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.RegisterExtension
+
+import static io.restassured.RestAssured.given
+import static org.hamcrest.CoreMatchers.is
+import static org.junit.jupiter.api.Assertions.assertEquals
+import static org.junit.jupiter.api.Assertions.assertTrue
+
+/**
+ * Verifies that the classes and the extension methods of the application are purged from the Groovy runtime on
+ * reload, so that their amount stays flat.
+ */
+class MetaClassCleanerTest extends DevUIJsonRPCTest {
+
+    @RegisterExtension
+    static final QuarkusDevModeTest config = new QuarkusDevModeTest()
+            .withApplicationRoot { jar -> jar
+                        .addClasses(ReloadableExtension, ReloadableExtensionResource)
+                        .addAsResource(new StringAsset("""
+                            moduleName=reloadable-extension
+                            moduleVersion=1.0
+                            extensionClasses=${ReloadableExtension.name}
+                            """.stripIndent()), ExtensionModuleScanner.MODULE_META_INF_FILE)
+                        .addAsResource(new StringAsset("greeting=hello\n"), "application.properties")
+            }
+
+    MetaClassCleanerTest() {
+        super("quarkus-groovy")
+    }
+
+    @Test
+    void testReload() {
+        JsonNode initial = statistics()
+
+        reload("bonjour")
+        JsonNode first = statistics()
+        assertTrue(first.get("lastPurged").asInt() > 0, "The classes of the application should have been purged")
+        assertEquals(initial.get("methods").asInt(), first.get("methods").asInt())
+
+        reload("hola")
+        JsonNode second = statistics()
+        assertEquals(first.get("registered").asInt(), second.get("registered").asInt())
+        assertEquals(first.get("methods").asInt(), second.get("methods").asInt())
+        assertEquals(first.get("totalPurged").asLong() + second.get("lastPurged").asInt(),
+                second.get("totalPurged").asLong())
+        assertEquals(second.get("registered").asInt(), executeJsonRPCMethod("getRegisteredClassCount").asInt())
+    }
+
+    /**
+     * @return the statistics of the Groovy runtime once the extension module of the application has been used.
+     */
+    private JsonNode statistics() {
+        given()
+                .when()
+                .get("/reloadable/shout/groovy")
+                .then()
+                .statusCode(200)
+                .body(is("GROOVY!"))
+        // The extension method of the previous class loader is no longer a mop method of String
+        given()
+                .when()
+                .get("/reloadable/mop")
+                .then()
+                .statusCode(200)
+                .body(is("1"))
+        executeJsonRPCMethod("getStatistics")
+    }
+
+    /**
+     * Changes the configuration of the application so that it is restarted with a new class loader on the next
+     * request.
+     */
+    private static void reload(String greeting) {
+        config.modifyResourceFile("application.properties") { "greeting=" + greeting + "\n" }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkiverse.groovy.it.resteasy.dev
+
+import jakarta.ws.rs.GET
+import jakarta.ws.rs.Path
+import jakarta.ws.rs.PathParam
+import jakarta.ws.rs.Produces
+import jakarta.ws.rs.core.MediaType
+import org.codehaus.groovy.reflection.ReflectionCache
+
+@Path("/reloadable")
+class ReloadableExtensionResource {
+
+    @GET
+    @Path("/shout/{name}")
+    @Produces(MediaType.TEXT_PLAIN)
+    def shout(@PathParam("name") String name) {
+        name.shout()
+    }
+
+    @GET
+    @Path("/mop")
+    @Produces(MediaType.TEXT_PLAIN)
+    def mopMethods() {
+        // The extension methods added to the mop methods of String on each start
+        ReflectionCache.getCachedClass(String).newMetaMethods.count { it.name == 'shout' }
+    }
+}